@@ -1,12 +1,33 @@
 package at.hochschule.burgenland.bswe.algo;
 
 import at.hochschule.burgenland.bswe.algo.display.Menu;
+import at.hochschule.burgenland.bswe.algo.model.BalancedTree;
+import at.hochschule.burgenland.bswe.algo.model.RedBlackTree;
+import at.hochschule.burgenland.bswe.algo.model.WAVLTree;
 
 public class Main {
 
+  /**
+   * Starts the menu. The balancing strategy can be chosen with an optional argument:
+   * {@code avl} (default), {@code wavl} or {@code redblack}.
+   *
+   * @param args the optional balancing strategy
+   */
   public static void main(String[] args) {
-    Menu menu = new Menu();
+    Menu menu = args.length == 0 || args[0].equalsIgnoreCase("avl") ? new Menu() : new Menu(balancedTree(args[0]));
     menu.start();
   }
 
+  private static BalancedTree balancedTree(String strategy) {
+    switch (strategy.toLowerCase()) {
+      case "wavl":
+        return new WAVLTree();
+      case "redblack":
+        return new RedBlackTree();
+      default:
+        throw new IllegalArgumentException("Invalid balancing strategy: " + strategy +
+            ". Valid options: avl, wavl, redblack");
+    }
+  }
+
 }
@@ -1,9 +1,47 @@
 package at.hochschule.burgenland.bswe.algo;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
+import at.hochschule.burgenland.bswe.algo.model.AVLSetOperations;
+import at.hochschule.burgenland.bswe.algo.model.AVLTree;
+import at.hochschule.burgenland.bswe.algo.model.AVLTreeListener;
+import at.hochschule.burgenland.bswe.algo.model.AVLTreeMap;
+import at.hochschule.burgenland.bswe.algo.model.BalancedTree;
+import at.hochschule.burgenland.bswe.algo.model.ConcurrentAVLTree;
+import at.hochschule.burgenland.bswe.algo.model.CountingAVLTreeListener;
+import at.hochschule.burgenland.bswe.algo.model.DoubleAVLTree;
+import at.hochschule.burgenland.bswe.algo.model.DoubleNode;
+import at.hochschule.burgenland.bswe.algo.model.FrozenAVLTree;
+import at.hochschule.burgenland.bswe.algo.model.IntArrayAVLTree;
+import at.hochschule.burgenland.bswe.algo.model.LongAVLTree;
+import at.hochschule.burgenland.bswe.algo.model.LongNode;
 import at.hochschule.burgenland.bswe.algo.model.Node;
+import at.hochschule.burgenland.bswe.algo.model.OffHeapAVLTree;
+import at.hochschule.burgenland.bswe.algo.model.PersistentAVLTree;
+import at.hochschule.burgenland.bswe.algo.model.RedBlackNode;
+import at.hochschule.burgenland.bswe.algo.model.RedBlackTree;
+import at.hochschule.burgenland.bswe.algo.model.ShardedAVLTree;
+import at.hochschule.burgenland.bswe.algo.model.TreeNode;
+import at.hochschule.burgenland.bswe.algo.model.WAVLNode;
+import at.hochschule.burgenland.bswe.algo.model.WAVLTree;
 import at.hochschule.burgenland.bswe.algo.traversal.TreeTraverser;
+import at.hochschule.burgenland.bswe.algo.traversal.TreeVisitor;
 
 
 /**
@@ -16,6 +54,16 @@ public class TestMain {
   private static int tests = 0;
   private static int passed = 0;
 
+  /**
+   * Event codes recorded by {@link #recordingListener(IntStream.Builder)}.
+   */
+  private static final int LEFT_LEFT = 1;
+  private static final int RIGHT_RIGHT = 2;
+  private static final int LEFT_RIGHT = 3;
+  private static final int RIGHT_LEFT = 4;
+  private static final int ROTATE_LEFT = 5;
+  private static final int ROTATE_RIGHT = 6;
+
   public static void main(String[] args) {
     System.out.println("Running TreeTraverser tests...\n");
 
@@ -64,6 +112,9 @@ public class TestMain {
     int[] inorder = TreeTraverser.traverse(balanced, "inorder");
     System.out.print("[INFO] printTraversal demo -> ");
     TreeTraverser.printTraversal(inorder, "inorder");
+    check("print-traversal-lazy", new int[] {printed(() -> TreeTraverser.printTraversal(inorder, "inorder"))
+        .equals(printed(() -> TreeTraverser.printTraversal(TreeTraverser.iterator(balanced, "inorder"), "inorder")))
+        ? 1 : 0}, new int[] {1});
 
     // 9) Sparse/non-BST-shaped tree (missing children at multiple levels)
     Node sparse = buildSparseTree();
@@ -124,6 +175,560 @@ public class TestMain {
     check("perfect15-levelorder", TreeTraverser.traverse(perfect15, "levelorder"),
         new int[] {8, 4, 12, 2, 6, 10, 14, 1, 3, 5, 7, 9, 11, 13, 15});
 
+    // 15) Rebalancing events: each case reports its exact rotations, through insert and add alike
+    int[][] caseKeys = {{3, 2, 1}, {1, 2, 3}, {3, 1, 2}, {1, 3, 2}};
+    int[][] caseEvents = {
+        {LEFT_LEFT, 3, ROTATE_RIGHT, 3},
+        {RIGHT_RIGHT, 1, ROTATE_LEFT, 1},
+        {LEFT_RIGHT, 3, ROTATE_LEFT, 1, ROTATE_RIGHT, 3},
+        {RIGHT_LEFT, 1, ROTATE_RIGHT, 3, ROTATE_LEFT, 1}};
+    String[] caseNames = {"ll", "rr", "lr", "rl"};
+    CountingAVLTreeListener counting = new CountingAVLTreeListener();
+    for (int i = 0; i < caseKeys.length; i++) {
+      IntStream.Builder insertEvents = IntStream.builder();
+      IntStream.Builder addEvents = IntStream.builder();
+      AVLTree viaInsert = new AVLTree(recordingListener(insertEvents));
+      AVLTree viaAdd = new AVLTree(recordingListener(addEvents));
+      AVLTree counted = new AVLTree(counting);
+      for (int key : caseKeys[i]) {
+        viaInsert.insert(key);
+        viaAdd.add(key);
+        counted.add(key);
+      }
+      check("listener-" + caseNames[i] + "-insert", insertEvents.build().toArray(), caseEvents[i]);
+      check("listener-" + caseNames[i] + "-add", addEvents.build().toArray(), caseEvents[i]);
+    }
+    check("counting-listener", new int[] {(int) counting.getInserts(), (int) counting.getLeftLeftCases(),
+        (int) counting.getRightRightCases(), (int) counting.getLeftRightCases(), (int) counting.getRightLeftCases(),
+        (int) counting.getRotations()}, new int[] {12, 1, 1, 1, 1, 6});
+    counting.reset();
+    check("counting-listener-reset", new int[] {(int) counting.getInserts(), (int) counting.getRotations()},
+        new int[] {0, 0});
+
+    // 16) add reports duplicates, find reports misses
+    AVLTree lookups = AVLTree.bulkLoad(new int[] {10, 20, 30});
+    check("add-duplicate", new int[] {lookups.add(20) ? 1 : 0, lookups.add(25) ? 1 : 0}, new int[] {0, 1});
+    check("add-duplicate-inorder", TreeTraverser.traverse(lookups.getRoot(), "inorder"), new int[] {10, 20, 25, 30});
+    check("find-hit-miss", new int[] {lookups.find(25).value, lookups.find(15) == null ? 1 : 0,
+        lookups.find(Integer.MAX_VALUE) == null ? 1 : 0}, new int[] {25, 1, 1});
+
+    // 17) Bulk-loaded AVL tree (unsorted input with duplicates) is perfectly balanced
+    AVLTree bulk = AVLTree.bulkLoad(new int[] {7, 3, 5, 1, 6, 2, 4, 3, 7});
+    check("bulk-load-inorder", TreeTraverser.traverse(bulk.getRoot(), "inorder"), new int[] {1, 2, 3, 4, 5, 6, 7});
+    check("bulk-load-levelorder", TreeTraverser.traverse(bulk.getRoot(), "levelorder"),
+        new int[] {4, 2, 6, 1, 3, 5, 7});
+    check("bulk-load-root-height", new int[] {bulk.getRoot().height}, new int[] {3});
+    check("from-sorted-inorder", TreeTraverser.traverse(AVLTree.fromSorted(new int[] {1, 1, 2, 9}).getRoot(),
+        "inorder"), new int[] {1, 2, 9});
+    expectIllegalArgument("from-sorted-unsorted-exception", () -> AVLTree.fromSorted(new int[] {2, 1}));
+
+    // 18) Removal with rebalancing (two-children root, then a Right-Right case)
+    AVLTree removal = AVLTree.bulkLoad(new int[] {1, 2, 3, 4, 5, 6, 7});
+    removal.remove(4);
+    check("remove-root-levelorder", TreeTraverser.traverse(removal.getRoot(), "levelorder"),
+        new int[] {5, 2, 6, 1, 3, 7});
+    check("remove-all-count", new int[] {removal.removeAll(new int[] {1, 3, 2, 42})}, new int[] {3});
+    check("remove-rebalanced-levelorder", TreeTraverser.traverse(removal.getRoot(), "levelorder"),
+        new int[] {6, 5, 7});
+
+    // 19) Array-backed AVL tree is traversed through the common TreeNode view and keeps the same shape
+    IntArrayAVLTree arrayTree = new IntArrayAVLTree(2);
+    AVLTree nodeTree = new AVLTree();
+    for (int value : new int[] {8, 4, 9, 7, 2, 13, 11, 46, 4}) {
+      arrayTree.insert(value);
+      nodeTree.insert(value);
+    }
+    arrayTree.remove(9);
+    nodeTree.remove(9);
+    check("array-tree-inorder", TreeTraverser.traverse(arrayTree.getRoot(), "inorder"),
+        new int[] {2, 4, 7, 8, 11, 13, 46});
+    check("array-tree-preorder-matches-node-tree", TreeTraverser.traverse(arrayTree.getRoot(), "preorder"),
+        TreeTraverser.traverse(nodeTree.getRoot(), "preorder"));
+
+    // 20) Off-heap AVL tree spanning several small chunks
+    try (OffHeapAVLTree offHeapTree = new OffHeapAVLTree(2)) {
+      for (int value : new int[] {8, 4, 9, 7, 2, 13, 11, 46}) {
+        offHeapTree.insert(value);
+      }
+      offHeapTree.remove(9);
+      check("off-heap-preorder-matches-node-tree", TreeTraverser.traverse(offHeapTree.getRoot(), "preorder"),
+          TreeTraverser.traverse(nodeTree.getRoot(), "preorder"));
+      check("off-heap-bytes", new int[] {(int) offHeapTree.offHeapBytes()}, new int[] {8 * 16});
+    }
+
+    // 21) Order statistics from subtree sizes
+    AVLTree stats = new AVLTree();
+    for (int value : new int[] {50, 20, 80, 10, 30, 70, 90, 60}) {
+      stats.add(value);
+    }
+    stats.remove(80);
+    check("stats-size", new int[] {stats.size()}, new int[] {7});
+    check("stats-rank", new int[] {stats.rank(10), stats.rank(55), stats.rank(100)}, new int[] {0, 4, 7});
+    check("stats-select", new int[] {stats.select(0), stats.select(3), stats.select(6)}, new int[] {10, 50, 90});
+    check("stats-median", new int[] {stats.median()}, new int[] {50});
+    expectIllegalArgument("stats-select-out-of-range", () -> stats.select(7));
+
+    // 22) Lazy range query and range count
+    PrimitiveIterator.OfInt range = stats.range(25, 70);
+    int[] rangeValues = new int[stats.rangeCount(25, 70)];
+    for (int i = 0; range.hasNext(); i++) {
+      rangeValues[i] = range.nextInt();
+    }
+    check("range-values", rangeValues, new int[] {30, 50, 60, 70});
+    check("range-count-empty", new int[] {stats.rangeCount(71, 85), stats.rangeCount(90, 10)}, new int[] {0, 0});
+    check("range-sparse-tree", toArray(TreeTraverser.range(sparse, 6, 26)), new int[] {7, 10, 20, 25});
+
+    // 23) Concurrent AVL tree: writers churn odd keys while readers look up the even keys, which are never removed
+    ConcurrentAVLTree concurrent = new ConcurrentAVLTree();
+    for (int key = 0; key < 20_000; key += 2) {
+      concurrent.add(key);
+    }
+    AtomicInteger wrongLookups = new AtomicInteger();
+    CountDownLatch writers = new CountDownLatch(2);
+    Runnable reader = () -> {
+      int mistakes = 0;
+      for (int round = 0; round < 20 || writers.getCount() > 0; round++) {
+        for (int key = 0; key < 20_000; key += 2) {
+          if (!concurrent.contains(key) || concurrent.contains(-1 - key)) {
+            mistakes++;
+          }
+        }
+      }
+      wrongLookups.addAndGet(mistakes);
+    };
+    AtomicInteger wrongSnapshots = new AtomicInteger();
+    Runnable snapshotReader = () -> {
+      while (writers.getCount() > 0) {
+        int[] values = concurrent.traverse("inorder");
+        int even = 0;
+        for (int i = 0; i < values.length; i++) {
+          if (i > 0 && values[i - 1] >= values[i]) {
+            wrongSnapshots.incrementAndGet();
+          }
+          if (values[i] % 2 == 0) {
+            even++;
+          }
+        }
+        if (even != 10_000) {
+          wrongSnapshots.incrementAndGet();
+        }
+      }
+    };
+    runConcurrently(reader, reader, snapshotReader,
+        () -> churn(concurrent, 1, 2_000, true, writers),
+        () -> churn(concurrent, 2_001, 4_000, false, writers));
+    int[] concurrentExpected = IntStream.concat(IntStream.range(0, 10_000).map(i -> i * 2),
+        IntStream.range(0, 1_000).map(i -> i * 2 + 1)).sorted().toArray();
+    check("concurrent-readers-writers", new int[] {
+        Arrays.equals(concurrent.traverse("inorder"), concurrentExpected) ? 1 : 0,
+        concurrent.size(),
+        wrongLookups.get(),
+        wrongSnapshots.get()}, new int[] {1, 11_000, 0, 0});
+    Node version = concurrent.getRoot();
+    int[] versionInorder = TreeTraverser.traverse(version, "inorder");
+    for (int key = 0; key <= 4; key += 2) {
+      concurrent.remove(key);
+    }
+    concurrent.add(-2);
+    check("concurrent-root-immutable", new int[] {
+        Arrays.equals(TreeTraverser.traverse(version, "inorder"), versionInorder) ? 1 : 0,
+        concurrent.traverse("inorder")[0], concurrent.size()}, new int[] {1, -2, 10_998});
+
+    // 24) Persistent AVL tree: a snapshot keeps its version while the tree keeps changing
+    PersistentAVLTree persistent = new PersistentAVLTree();
+    for (int value = 1; value <= 7; value++) {
+      persistent.add(value);
+    }
+    PersistentAVLTree snapshot = persistent.snapshot();
+    persistent.remove(4);
+    persistent.add(8);
+    check("persistent-snapshot-levelorder", TreeTraverser.traverse(snapshot.getRoot(), "levelorder"),
+        new int[] {4, 2, 6, 1, 3, 5, 7});
+    check("persistent-current-inorder", TreeTraverser.traverse(persistent.getRoot(), "inorder"),
+        new int[] {1, 2, 3, 5, 6, 7, 8});
+
+    // 25) Sharded AVL forest: parallel ingest, shards concatenate to the sorted sequence
+    ShardedAVLTree sharded = ShardedAVLTree.fromSample(new int[] {10, 20, 30, 40, 50, 60}, 3,
+        ForkJoinPool.commonPool());
+    int inserted = sharded.addAll(new int[] {45, 5, 25, 60, 15, 35, 25, 55});
+    check("sharded-inserted-size", new int[] {inserted, sharded.size(), sharded.shardCount()},
+        new int[] {7, 7, 3});
+    check("sharded-inorder", sharded.traverse("inorder"), new int[] {5, 15, 25, 35, 45, 55, 60});
+    check("sharded-shard-preorder", sharded.traverseShard(1, "preorder"), new int[] {45, 35});
+    expectIllegalArgument("sharded-shard-out-of-range", () -> sharded.traverseShard(3, "inorder"));
+
+    // 26) Join-based set operations reuse the input nodes and return balanced trees
+    AVLTree union = AVLSetOperations.union(AVLTree.bulkLoad(new int[] {1, 3, 5, 7, 9}),
+        AVLTree.bulkLoad(new int[] {2, 3, 4, 10, 11, 12, 13}));
+    check("set-union", TreeTraverser.traverse(union.getRoot(), "inorder"),
+        new int[] {1, 2, 3, 4, 5, 7, 9, 10, 11, 12, 13});
+    check("set-union-height", new int[] {union.getRoot().height}, new int[] {4});
+    AVLTree intersection = AVLSetOperations.intersection(AVLTree.bulkLoad(new int[] {1, 3, 5, 7, 9}),
+        AVLTree.bulkLoad(new int[] {3, 4, 5, 9}));
+    check("set-intersection", TreeTraverser.traverse(intersection.getRoot(), "inorder"), new int[] {3, 5, 9});
+    AVLTree difference = AVLSetOperations.difference(AVLTree.bulkLoad(new int[] {1, 3, 5, 7, 9}),
+        AVLTree.bulkLoad(new int[] {3, 4, 5, 9}));
+    check("set-difference", TreeTraverser.traverse(difference.getRoot(), "inorder"), new int[] {1, 7});
+    AVLSetOperations.SplitResult split = AVLSetOperations.split(union, 6);
+    AVLTree joined = AVLSetOperations.join(split.getLeft(), 6, split.getRight());
+    check("split-join", TreeTraverser.traverse(joined.getRoot(), "inorder"),
+        new int[] {1, 2, 3, 4, 5, 6, 7, 9, 10, 11, 12, 13});
+    expectIllegalArgument("join-unordered", () -> AVLSetOperations.join(AVLTree.bulkLoad(new int[] {5}), 3,
+        new AVLTree()));
+
+    // 27) Long and double key variants: same shape as the int tree, unboxed traversal results
+    LongAVLTree longTree = new LongAVLTree();
+    for (long value : new long[] {30, 20, 10, 25, 40, 50, 5_000_000_000L}) {
+      longTree.add(value);
+    }
+    longTree.remove(30);
+    check("long-tree-preorder", TreeTraverser.traverse(longTree.getRoot(), "preorder"),
+        new long[] {40, 20, 10, 25, 50, 5_000_000_000L});
+    check("long-tree-contains", new int[] {longTree.contains(5_000_000_000L) ? 1 : 0, longTree.size()},
+        new int[] {1, 6});
+    DoubleAVLTree doubleTree = new DoubleAVLTree();
+    for (double value : new double[] {0.5, Double.NaN, -0.0, 0.0, -1.5, 0.5}) {
+      doubleTree.add(value);
+    }
+    check("double-tree-inorder", TreeTraverser.traverse(doubleTree.getRoot(), "inorder"),
+        new double[] {-1.5, -0.0, 0.0, 0.5, Double.NaN});
+    // The same random inserts and removals must build the same shape in the int, long and double trees
+    AVLTree intMirror = new AVLTree();
+    LongAVLTree longMirror = new LongAVLTree();
+    DoubleAVLTree doubleMirror = new DoubleAVLTree();
+    Random operations = new Random(14);
+    for (int i = 0; i < 20_000; i++) {
+      int key = operations.nextInt(2_000);
+      if (operations.nextBoolean()) {
+        intMirror.add(key);
+        longMirror.add(key);
+        doubleMirror.add(key);
+      } else {
+        intMirror.remove(key);
+        longMirror.remove(key);
+        doubleMirror.remove(key);
+      }
+    }
+    for (String order : new String[] {"preorder", "inorder", "postorder", "levelorder"}) {
+      long[] expected = Arrays.stream(TreeTraverser.traverse(intMirror.getRoot(), order)).asLongStream().toArray();
+      check("primitive-trees-match-avl-" + order, new int[] {
+          Arrays.equals(TreeTraverser.traverse(longMirror.getRoot(), order), expected) ? 1 : 0,
+          Arrays.equals(TreeTraverser.traverse(doubleMirror.getRoot(), order),
+              Arrays.stream(expected).asDoubleStream().toArray()) ? 1 : 0}, new int[] {1, 1});
+    }
+    check("primitive-trees-rank-select", new long[] {longMirror.size(), doubleMirror.size(), longMirror.rank(700),
+        doubleMirror.rank(700.5), longMirror.select(100), (long) doubleMirror.select(100)}, new long[] {
+        intMirror.size(), intMirror.size(), intMirror.rank(700), intMirror.rank(701), intMirror.select(100),
+        intMirror.select(100)});
+    check("long-tree-inorder-postorder", LongStream.concat(
+        Arrays.stream(TreeTraverser.traverse(longTree.getRoot(), "inorder")),
+        Arrays.stream(TreeTraverser.traverse(longTree.getRoot(), "postorder"))).toArray(),
+        new long[] {10, 20, 25, 40, 50, 5_000_000_000L, 10, 25, 20, 5_000_000_000L, 50, 40});
+    // Degenerate chains of 200k nodes: the iterative long/double traversals must not overflow the call stack
+    LongNode longChain = null;
+    DoubleNode doubleChain = null;
+    for (int value = 1; value <= 200_000; value++) {
+      LongNode longNode = new LongNode(value);
+      longNode.left = longChain;
+      longNode.size = value;
+      longChain = longNode;
+      DoubleNode doubleNode = new DoubleNode(value);
+      doubleNode.right = doubleChain;
+      doubleNode.size = value;
+      doubleChain = doubleNode;
+    }
+    long[] longInorder = TreeTraverser.traverse(longChain, "inorder");
+    long[] longPostorder = TreeTraverser.traverse(longChain, "postorder");
+    double[] doublePreorder = TreeTraverser.traverse(doubleChain, "preorder");
+    double[] doubleInorder = TreeTraverser.traverse(doubleChain, "inorder");
+    check("long-chain-200k", new long[] {longInorder[0], longInorder[199_999], longPostorder[0],
+        TreeTraverser.traverse(longChain, "preorder")[199_999]}, new long[] {1, 200_000, 1, 1});
+    check("double-chain-200k", new double[] {doublePreorder[0], doublePreorder[199_999], doubleInorder[0],
+        TreeTraverser.traverse(doubleChain, "postorder")[0]}, new double[] {200_000, 1, 200_000, 1});
+
+    // 28) Ordered int->long map: values travel with their keys through rotations and removals
+    AVLTreeMap map = new AVLTreeMap();
+    for (int key : new int[] {40, 20, 60, 10, 30, 50, 70, 20, 60, 60}) {
+      map.merge(key, 1, Long::sum);
+    }
+    map.put(50, 5_000_000_000L);
+    map.remove(40);
+    long[] entries = new long[2 * map.size()];
+    int[] entryIndex = {0};
+    map.forEach((key, value) -> {
+      entries[entryIndex[0]++] = key;
+      entries[entryIndex[0]++] = value;
+    });
+    check("map-entries", entries, new long[] {10, 1, 20, 2, 30, 1, 50, 5_000_000_000L, 60, 3, 70, 1});
+    check("map-get", new long[] {map.get(60), map.getOrDefault(40, -1)}, new long[] {3, -1});
+    check("map-put-new-or-replaced", new long[] {map.put(70, 7) ? 1 : 0, map.put(80, 8) ? 1 : 0, map.get(70),
+        map.get(80), map.merge(90, 9, Long::sum), map.merge(90, 1, Long::sum), map.size()},
+        new long[] {0, 1, 7, 8, 9, 10, 8});
+
+    // 29) Multiset mode: repeated values are counted, traversals can expand the counts
+    AVLTree multiset = AVLTree.multiset();
+    for (int value : new int[] {5, 3, 8, 3, 5, 3, 1}) {
+      multiset.add(value);
+    }
+    multiset.add(8, 2);
+    multiset.removeOne(3);
+    multiset.remove(1);
+    check("multiset-counts", new int[] {multiset.count(3), multiset.count(5), multiset.count(8), multiset.count(1),
+        multiset.size()}, new int[] {2, 2, 3, 0, 3});
+    check("multiset-inorder-expanded", TreeTraverser.traverse(multiset.getRoot(), "inorder", true),
+        new int[] {3, 3, 5, 5, 8, 8, 8});
+    check("multiset-preorder-distinct", TreeTraverser.traverse(multiset.getRoot(), "preorder"),
+        new int[] {5, 3, 8});
+    AVLTree saturated = AVLTree.multiset();
+    saturated.add(4, Integer.MAX_VALUE - 1);
+    saturated.add(4);
+    int overflows = 0;
+    for (Runnable increment : new Runnable[] {() -> saturated.add(4), () -> saturated.insert(4),
+        () -> saturated.add(4, 1)}) {
+      try {
+        increment.run();
+      } catch (ArithmeticException e) {
+        overflows++;
+      }
+    }
+    check("multiset-count-overflow", new int[] {overflows, saturated.count(4), saturated.size()},
+        new int[] {3, Integer.MAX_VALUE, 1});
+
+    // 30) Pooled tree: removed nodes are recycled and clear() keeps the tree usable
+    AVLTree pooled = AVLTree.pooled();
+    for (int value : new int[] {20, 10, 30, 25}) {
+      pooled.add(value);
+    }
+    Node evicted = pooled.find(10);
+    pooled.remove(10);
+    pooled.add(40);
+    check("pooled-node-recycled", new int[] {pooled.find(40) == evicted ? 1 : 0}, new int[] {1});
+    check("pooled-levelorder", TreeTraverser.traverse(pooled.getRoot(), "levelorder"), new int[] {25, 20, 30, 40});
+    pooled.clear();
+    pooled.add(7);
+    check("pooled-after-clear", new int[] {pooled.size(), pooled.getRoot().value}, new int[] {1, 7});
+
+    // 31) Frozen Eytzinger layout: branch-free lookups, in-order identical to the source tree
+    FrozenAVLTree frozen = stats.freeze();
+    stats.add(55);
+    check("frozen-contains", new int[] {frozen.contains(10) ? 1 : 0, frozen.contains(90) ? 1 : 0,
+        frozen.contains(55) ? 1 : 0, frozen.contains(Integer.MIN_VALUE) ? 1 : 0}, new int[] {1, 1, 0, 0});
+    check("frozen-inorder", frozen.traverse("inorder"), new int[] {10, 20, 30, 50, 60, 70, 90});
+    check("frozen-levelorder", frozen.traverse("levelorder"), new int[] {50, 20, 70, 10, 30, 60, 90});
+    check("frozen-view-preorder", TreeTraverser.traverse(frozen.getRoot(), "preorder"), frozen.traverse("preorder"));
+
+    // 32) Finger inserts: resuming from the last insertion path builds the same tree as inserting from the root
+    AVLTree fingered = new AVLTree();
+    AVLTree fromRoot = new AVLTree();
+    for (int value : new int[] {1, 2, 3, 4, 5, 6, 7, 9, 8, 12, 10, 11, 0, 13}) {
+      fingered.add(value);
+      fromRoot.insert(value);
+    }
+    fingered.remove(4);
+    fromRoot.remove(4);
+    fingered.add(4);
+    fromRoot.insert(4);
+    check("finger-same-shape", TreeTraverser.traverse(fingered.getRoot(), "preorder"),
+        TreeTraverser.traverse(fromRoot.getRoot(), "preorder"));
+    check("finger-sizes", new int[] {fingered.size(), fingered.rank(9), fingered.select(13)}, new int[] {14, 9, 13});
+
+    // 33) Balancing strategies: same values, different shapes and rotation counts
+    BalancedTree[] strategies = {new AVLTree(), new WAVLTree(), new RedBlackTree()};
+    for (BalancedTree strategy : strategies) {
+      for (int value = 1; value <= 7; value++) {
+        strategy.add(value);
+      }
+    }
+    check("avl-sequential", TreeTraverser.traverse(strategies[0].getRoot(), "preorder"), new int[] {4, 2, 1, 3, 6, 5, 7});
+    check("wavl-sequential", TreeTraverser.traverse(strategies[1].getRoot(), "preorder"),
+        new int[] {4, 2, 1, 3, 6, 5, 7});
+    check("redblack-sequential", TreeTraverser.traverse(strategies[2].getRoot(), "preorder"),
+        new int[] {2, 1, 4, 3, 6, 5, 7});
+    check("strategy-stats", new int[] {(int) strategies[0].getRotations(), strategies[0].height(),
+        (int) strategies[1].getRotations(), (int) strategies[2].getRotations(), strategies[2].height()},
+        new int[] {4, 3, 4, 3, 4});
+    for (BalancedTree strategy : strategies) {
+      strategy.remove(4);
+      strategy.remove(1);
+      check("strategy-remove-" + strategy.getClass().getSimpleName(),
+          TreeTraverser.traverse(strategy.getRoot(), "inorder"), new int[] {2, 3, 5, 6, 7});
+    }
+    // Random inserts and removals must keep the invariants of both strategies after every single operation
+    WAVLTree wavl = new WAVLTree();
+    RedBlackTree redBlack = new RedBlackTree();
+    boolean[] present = new boolean[500];
+    Random mixed = new Random(33);
+    int wrongResults = 0;
+    int brokenRanks = 0;
+    int brokenColors = 0;
+    int unsorted = 0;
+    for (int i = 0; i < 5_000; i++) {
+      int key = mixed.nextInt(present.length);
+      boolean insert = mixed.nextBoolean();
+      boolean expected = insert != present[key];
+      if (insert ? wavl.add(key) != expected || redBlack.add(key) != expected
+          : wavl.remove(key) != expected || redBlack.remove(key) != expected) {
+        wrongResults++;
+      }
+      present[key] = insert;
+      if (rankViolations(wavl.getRoot()) > 0) {
+        brokenRanks++;
+      }
+      if (redBlack.getRoot() != null && redBlack.getRoot().red || blackHeight(redBlack.getRoot()) < 0) {
+        brokenColors++;
+      }
+      int[] sorted = IntStream.range(0, present.length).filter(value -> present[value]).toArray();
+      if (!Arrays.equals(TreeTraverser.traverse(wavl.getRoot(), "inorder"), sorted)
+          || !Arrays.equals(TreeTraverser.traverse(redBlack.getRoot(), "inorder"), sorted)) {
+        unsorted++;
+      }
+    }
+    check("strategies-random-invariants", new int[] {wrongResults, brokenRanks, brokenColors, unsorted,
+        wavl.size() - redBlack.size()}, new int[] {0, 0, 0, 0, 0});
+
+    // 34) Iterative traversals: degenerate trees far deeper than any call stack
+    Node deepRight = rightSkewed(200_000);
+    Node deeperLeft = leftSkewed(200_000);
+    for (String order : new String[] {"preorder", "inorder", "postorder", "levelorder"}) {
+      int[] right = TreeTraverser.traverse(deepRight, order);
+      int[] left = TreeTraverser.traverse(deeperLeft, order);
+      boolean rightAscending = !order.equals("postorder");
+      boolean leftAscending = order.equals("inorder") || order.equals("postorder");
+      check("deep-right-200k-" + order, new int[] {right.length, right[0], right[right.length - 1]},
+          new int[] {200_000, rightAscending ? 1 : 200_000, rightAscending ? 200_000 : 1});
+      check("deep-left-200k-" + order, new int[] {left.length, left[0], left[left.length - 1]},
+          new int[] {200_000, leftAscending ? 1 : 200_000, leftAscending ? 200_000 : 1});
+    }
+    // A root with consistent subtree sizes sizes the result directly; hand-built trees without sizes are counted
+    Node sizedSparse = withSizes(buildSparseTree());
+    for (String order : new String[] {"preorder", "inorder", "postorder", "levelorder"}) {
+      check("sized-root-" + order, TreeTraverser.traverse(sizedSparse, order), TreeTraverser.traverse(sparse, order));
+    }
+
+    // 35) Lazy iterators and streams: same sequences as traverse, early exit, empty trees
+    for (String order : new String[] {"preorder", "inorder", "postorder", "levelorder"}) {
+      check("iterator-sparse-" + order, toArray(TreeTraverser.iterator(sparse, order)),
+          TreeTraverser.traverse(sparse, order));
+      check("stream-perfect15-" + order, TreeTraverser.stream(perfect15, order).toArray(),
+          TreeTraverser.traverse(perfect15, order));
+    }
+    check("stream-first-three", TreeTraverser.stream(deepRight, "inorder").limit(3).toArray(), new int[] {1, 2, 3});
+    check("stream-aggregates", new int[] {TreeTraverser.stream(perfect15, "levelorder").min().getAsInt(),
+        TreeTraverser.stream(perfect15, "postorder").max().getAsInt(),
+        (int) TreeTraverser.stream(perfect15, "preorder").count()}, new int[] {1, 15, 15});
+    check("iterator-empty", new int[] {TreeTraverser.iterator(empty, "postorder").hasNext() ? 1 : 0}, new int[] {0});
+    expectIllegalArgument("iterator-invalid-order", () -> TreeTraverser.iterator(balanced, "zigzag"));
+
+    // 36) Morris traversal: same results without a stack, and every thread is removed again
+    for (Node root : new Node[] {empty, single, sparse, perfect15, zigzag}) {
+      int[] levelBefore = TreeTraverser.traverse(root, "levelorder");
+      Node[] linksBefore = links(root);
+      check("morris-preorder", TreeTraverser.traverseMorris(root, "preorder"), TreeTraverser.traverse(root, "preorder"));
+      check("morris-inorder", TreeTraverser.traverseMorris(root, "InOrder"), TreeTraverser.traverse(root, "inorder"));
+      check("morris-restored", TreeTraverser.traverse(root, "levelorder"), levelBefore);
+      Node[] linksAfter = links(root);
+      boolean sameLinks = linksAfter.length == linksBefore.length;
+      for (int i = 0; sameLinks && i < linksAfter.length; i++) {
+        sameLinks = linksAfter[i] == linksBefore[i];
+      }
+      check("morris-restored-links", new int[] {sameLinks ? 1 : 0}, new int[] {1});
+    }
+    check("morris-deep-200k", new int[] {
+        Arrays.equals(TreeTraverser.traverseMorris(deepRight, "preorder"), TreeTraverser.traverse(deepRight, "preorder"))
+            ? 1 : 0,
+        Arrays.equals(TreeTraverser.traverseMorris(deeperLeft, "inorder"), TreeTraverser.traverse(deeperLeft, "inorder"))
+            ? 1 : 0,
+        TreeTraverser.traverse(deeperLeft, "postorder")[0]}, new int[] {1, 1, 1});
+    expectIllegalArgument("morris-postorder-rejected", () -> TreeTraverser.traverseMorris(balanced, "postorder"));
+
+    // 37) Parallel in-order stream: split at subtree boundaries, still sorted and complete
+    for (Node root : new Node[] {empty, single, sparse, perfect15}) {
+      check("parallel-inorder", TreeTraverser.parallelStream(withSizes(root)).toArray(),
+          TreeTraverser.traverse(root, "inorder"));
+    }
+    AVLTree parallelTree = AVLTree.bulkLoad(IntStream.range(0, 100_000).map(i -> i * 3).toArray());
+    Node parallelRoot = parallelTree.getRoot();
+    Spliterator.OfInt parallelSource = TreeTraverser.parallelStream(parallelRoot).spliterator();
+    Spliterator.OfInt parallelPrefix = parallelSource.trySplit();
+    long[] splitCounts = new long[2];
+    boolean splitHalves = parallelPrefix.estimateSize() > 0 && parallelSource.estimateSize() > 0;
+    long[] splitSizes = {parallelPrefix.getExactSizeIfKnown(), parallelSource.getExactSizeIfKnown()};
+    parallelPrefix.forEachRemaining((int v) -> splitCounts[0]++);
+    parallelSource.tryAdvance((int v) -> splitCounts[1]++);
+    boolean sizedWhileAdvancing = parallelSource.getExactSizeIfKnown() == splitSizes[1] - 1;
+    parallelSource.forEachRemaining((int v) -> splitCounts[1]++);
+    check("parallel-100k", new long[] {
+        TreeTraverser.parallelStream(parallelRoot).asLongStream().sum(),
+        TreeTraverser.parallelStream(parallelRoot).filter(v -> v % 2 == 0).count(),
+        Arrays.equals(TreeTraverser.parallelStream(parallelRoot).toArray(), TreeTraverser.traverse(parallelRoot, "inorder"))
+            ? 1 : 0,
+        parallelSource.hasCharacteristics(Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.SIZED
+            | Spliterator.SUBSIZED) ? 1 : 0,
+        splitHalves && splitCounts[0] + splitCounts[1] == 100_000 ? 1 : 0,
+        splitSizes[0] == splitCounts[0] && splitSizes[1] == splitCounts[1] && sizedWhileAdvancing ? 1 : 0,
+        TreeTraverser.parallelStream(withSizes(deepRight)).count()}, new long[] {
+        3L * 99_999 * 100_000 / 2, 50_000, 1, 1, 1, 1, 200_000});
+
+    // 38) Visitor traversal: full walks match traverse, visitors can stop early and prune subtrees
+    for (String order : new String[] {"preorder", "inorder", "postorder", "levelorder"}) {
+      IntStream.Builder visited = IntStream.builder();
+      boolean completed = TreeTraverser.traverse(perfect15, order, v -> {
+        visited.add(v);
+        return true;
+      });
+      check("visitor-" + order, visited.build().toArray(), TreeTraverser.traverse(perfect15, order));
+      check("visitor-" + order + "-completed", new int[] {completed ? 1 : 0}, new int[] {1});
+    }
+    IntStream.Builder untilFound = IntStream.builder();
+    boolean stopped = !TreeTraverser.traverse(perfect15, "levelorder", v -> {
+      untilFound.add(v);
+      return v != 6;
+    });
+    check("visitor-stops-at-first-match", untilFound.build().toArray(), new int[] {8, 4, 12, 2, 6});
+    check("visitor-stopped", new int[] {stopped ? 1 : 0}, new int[] {1});
+
+    int[] touched = new int[1];
+    IntStream.Builder inRange = IntStream.builder();
+    TreeVisitor rangeVisitor = TreeVisitor.range(300, 330, v -> {
+      inRange.add(v);
+      return true;
+    });
+    TreeTraverser.visit(parallelRoot, "inorder", new TreeVisitor() {
+      @Override
+      public boolean visit(int value) {
+        touched[0]++;
+        return rangeVisitor.visit(value);
+      }
+
+      @Override
+      public boolean shouldEnter(int min, int max) {
+        return rangeVisitor.shouldEnter(min, max);
+      }
+    });
+    check("visitor-range-inorder", inRange.build().toArray(),
+        IntStream.rangeClosed(100, 110).map(i -> i * 3).toArray());
+    check("visitor-range-pruned", new int[] {touched[0] <= 2 * parallelTree.height() + 11 ? 1 : 0}, new int[] {1});
+
+    IntStream.Builder pruned = IntStream.builder();
+    TreeTraverser.visit(perfect15, "preorder", TreeVisitor.range(5, 7, v -> {
+      pruned.add(v);
+      return true;
+    }));
+    check("visitor-range-preorder", pruned.build().toArray(), new int[] {6, 5, 7});
+    for (String order : new String[] {"preorder", "inorder", "postorder", "levelorder"}) {
+      IntStream.Builder reads = IntStream.builder();
+      TreeTraverser.visit(readTracking(perfect15, reads), order, TreeVisitor.range(5, 7, v -> true));
+      check("visitor-pruned-roots-untouched-" + order, reads.build().sorted().distinct().toArray(),
+          new int[] {4, 5, 6, 7, 8});
+    }
+    int[] deepVisited = new int[1];
+    check("visitor-deep-200k", new int[] {
+        TreeTraverser.traverse(deepRight, "postorder", v -> ++deepVisited[0] < 150_000) ? 1 : 0, deepVisited[0]},
+        new int[] {0, 150_000});
+    expectIllegalArgument("visitor-null", () -> TreeTraverser.traverse(balanced, "inorder", (IntPredicate) null));
+    expectIllegalArgument("visitor-invalid-order", () -> TreeTraverser.traverse(balanced, "zigzag", v -> true));
+    expectIllegalArgument("visitor-invalid-range", () -> TreeVisitor.range(5, 4, v -> true));
+
     System.out.printf("\nSummary: %d/%d tests passed.\n", passed, tests);
     if (passed != tests) {
       System.exit(1);
@@ -142,6 +747,209 @@ public class TestMain {
     }
   }
 
+  /**
+   * Inserts and removes all odd keys in {@code [from, to)} of a concurrent tree for 50 rounds, keeping them after
+   * the last round if {@code keep} is set, and counts down {@code done} when finished.
+   */
+  private static void churn(ConcurrentAVLTree tree, int from, int to, boolean keep, CountDownLatch done) {
+    for (int round = 0; round < 50; round++) {
+      for (int key = from; key < to; key += 2) {
+        tree.add(key);
+      }
+      if (round < 49 || !keep) {
+        for (int key = from; key < to; key += 2) {
+          tree.remove(key);
+        }
+      }
+    }
+    done.countDown();
+  }
+
+  /**
+   * Collects every node of a tree in level-order, each followed by its left and right child (null if missing),
+   * so that two calls can be compared by identity to detect changed pointers.
+   */
+  private static Node[] links(Node root) {
+    List<Node> links = new ArrayList<>();
+    Queue<Node> queue = new ArrayDeque<>();
+    if (root != null) {
+      queue.add(root);
+    }
+    while (!queue.isEmpty()) {
+      Node node = queue.poll();
+      links.add(node);
+      links.add(node.left);
+      links.add(node.right);
+      if (node.left != null) {
+        queue.add(node.left);
+      }
+      if (node.right != null) {
+        queue.add(node.right);
+      }
+    }
+    return links.toArray(new Node[0]);
+  }
+
+  /**
+   * Counts the nodes of a WAVL tree whose rank breaks the rank rule: every rank difference between a node and
+   * its child must be 1 or 2 (a missing child has rank -1), and every leaf must have rank 0.
+   */
+  private static int rankViolations(WAVLNode node) {
+    if (node == null) {
+      return 0;
+    }
+    int violations = rankViolations(node.left) + rankViolations(node.right);
+    for (WAVLNode child : new WAVLNode[] {node.left, node.right}) {
+      int difference = node.rank - (child == null ? -1 : child.rank);
+      if (difference != 1 && difference != 2) {
+        violations++;
+      }
+    }
+    if (node.left == null && node.right == null && node.rank != 0) {
+      violations++;
+    }
+    return violations;
+  }
+
+  /**
+   * Returns the number of black nodes on every path from a red-black node down to a missing child, or -1 if
+   * the paths disagree or a red node has a red child somewhere in the subtree.
+   */
+  private static int blackHeight(RedBlackNode node) {
+    if (node == null) {
+      return 0;
+    }
+    int left = blackHeight(node.left);
+    int right = blackHeight(node.right);
+    boolean redEdge = node.red && (node.left != null && node.left.red || node.right != null && node.right.red);
+    if (left < 0 || left != right || redEdge) {
+      return -1;
+    }
+    return left + (node.red ? 0 : 1);
+  }
+
+  /**
+   * Sets the subtree sizes of a hand-built tree, which keeps the size 1 of every new {@link Node}, so that it can be
+   * streamed by {@link TreeTraverser#parallelStream(Node)}. Children follow their parents in level-order, so walking
+   * that order backwards computes every size from the finished sizes of its children, without recursion.
+   */
+  private static Node withSizes(Node root) {
+    List<Node> nodes = new ArrayList<>();
+    if (root != null) {
+      nodes.add(root);
+    }
+    for (int i = 0; i < nodes.size(); i++) {
+      Node node = nodes.get(i);
+      if (node.left != null) {
+        nodes.add(node.left);
+      }
+      if (node.right != null) {
+        nodes.add(node.right);
+      }
+    }
+    for (int i = nodes.size() - 1; i >= 0; i--) {
+      Node node = nodes.get(i);
+      node.size = 1 + (node.left == null ? 0 : node.left.size) + (node.right == null ? 0 : node.right.size);
+    }
+    return root;
+  }
+
+  /**
+   * Wraps a tree in {@link TreeNode} views that record the value of every node whose {@link TreeNode#getValue()}
+   * is called, so that a traversal can be checked for nodes it should not have touched.
+   */
+  private static TreeNode readTracking(TreeNode node, IntStream.Builder reads) {
+    if (node == null) {
+      return null;
+    }
+    return new TreeNode() {
+      @Override
+      public int getValue() {
+        reads.add(node.getValue());
+        return node.getValue();
+      }
+
+      @Override
+      public int getHeight() {
+        return node.getHeight();
+      }
+
+      @Override
+      public TreeNode getLeft() {
+        return readTracking(node.getLeft(), reads);
+      }
+
+      @Override
+      public TreeNode getRight() {
+        return readTracking(node.getRight(), reads);
+      }
+    };
+  }
+
+  /**
+   * Starts every task in its own thread and waits until all of them are finished.
+   */
+  private static void runConcurrently(Runnable... tasks) {
+    Thread[] threads = new Thread[tasks.length];
+    for (int i = 0; i < tasks.length; i++) {
+      threads[i] = new Thread(tasks[i]);
+      threads[i].start();
+    }
+    try {
+      for (Thread thread : threads) {
+        thread.join();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for concurrent tasks", e);
+    }
+  }
+
+  private static void check(String name, long[] actual, long[] expected) {
+    tests++;
+    if (Arrays.equals(actual, expected)) {
+      passed++;
+      System.out.println("[PASS] " + name + " -> " + Arrays.toString(actual));
+    } else {
+      System.out.println("[FAIL] " + name);
+      System.out.println("       expected: " + Arrays.toString(expected));
+      System.out.println("       actual  : " + Arrays.toString(actual));
+    }
+  }
+
+  private static void check(String name, double[] actual, double[] expected) {
+    tests++;
+    if (Arrays.equals(actual, expected)) {
+      passed++;
+      System.out.println("[PASS] " + name + " -> " + Arrays.toString(actual));
+    } else {
+      System.out.println("[FAIL] " + name);
+      System.out.println("       expected: " + Arrays.toString(expected));
+      System.out.println("       actual  : " + Arrays.toString(actual));
+    }
+  }
+
+  /**
+   * Runs a task and returns everything it printed to {@link System#out} instead of printing it.
+   */
+  private static String printed(Runnable task) {
+    PrintStream out = System.out;
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(buffer, true, StandardCharsets.UTF_8));
+    try {
+      task.run();
+    } finally {
+      System.setOut(out);
+    }
+    return buffer.toString(StandardCharsets.UTF_8);
+  }
+
+  private static int[] toArray(PrimitiveIterator.OfInt iterator) {
+    IntStream.Builder builder = IntStream.builder();
+    iterator.forEachRemaining((int value) -> builder.add(value));
+    return builder.build().toArray();
+  }
+
   private static void checkLen(String name, int[] actual, int expectedLen) {
     tests++;
     if (actual.length == expectedLen) {
@@ -167,6 +975,43 @@ public class TestMain {
     }
   }
 
+  /**
+   * Creates a listener that appends the event code and node value of every rebalancing case and rotation.
+   */
+  private static AVLTreeListener recordingListener(IntStream.Builder events) {
+    return new AVLTreeListener() {
+      @Override
+      public void onLeftLeft(int value) {
+        events.add(LEFT_LEFT).add(value);
+      }
+
+      @Override
+      public void onRightRight(int value) {
+        events.add(RIGHT_RIGHT).add(value);
+      }
+
+      @Override
+      public void onLeftRight(int value) {
+        events.add(LEFT_RIGHT).add(value);
+      }
+
+      @Override
+      public void onRightLeft(int value) {
+        events.add(RIGHT_LEFT).add(value);
+      }
+
+      @Override
+      public void onRotateLeft(int value) {
+        events.add(ROTATE_LEFT).add(value);
+      }
+
+      @Override
+      public void onRotateRight(int value) {
+        events.add(ROTATE_RIGHT).add(value);
+      }
+    };
+  }
+
   private static Node perfectBalancedTree() {
     //          4
     //        /   \
@@ -0,0 +1,73 @@
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import at.hochschule.burgenland.bswe.algo.model.AVLTree;
+import at.hochschule.burgenland.bswe.algo.model.IntArrayAVLTree;
+import at.hochschule.burgenland.bswe.algo.model.IntTree;
+import at.hochschule.burgenland.bswe.algo.model.OffHeapAVLTree;
+
+/**
+ * Compares the struct-of-arrays {@link IntArrayAVLTree} and the {@link OffHeapAVLTree} with the
+ * {@link at.hochschule.burgenland.bswe.algo.model.Node}-based {@link AVLTree}:
+ * retained heap (and off-heap memory) per key, insert throughput and lookup throughput on random keys.
+ */
+public class ArrayTreeBenchmark {
+
+  private static final int[] SIZES = {100_000, 1_000_000, 5_000_000};
+
+  public static void main(String[] args) {
+    for (int size : SIZES) {
+      System.out.println("\n=== " + size + " keys ===");
+      int[] keys = BenchmarkSupport.randomKeys(size, 42);
+      int[] probes = BenchmarkSupport.randomKeys(size, 7);
+
+      long nodeBytes = BenchmarkSupport.retainedBytes(() -> fill(new AVLTree(), keys));
+      long arrayBytes = BenchmarkSupport.retainedBytes(() -> fill(new IntArrayAVLTree(), keys));
+      System.out.printf("%-45s %10.1f bytes/key%n", "AVLTree memory", (double) nodeBytes / size);
+      System.out.printf("%-45s %10.1f bytes/key%n", "IntArrayAVLTree memory", (double) arrayBytes / size);
+      try (OffHeapAVLTree offHeap = new OffHeapAVLTree()) {
+        long offHeapHeapBytes = BenchmarkSupport.retainedBytes(() -> fill(offHeap, keys));
+        System.out.printf("%-45s %10.1f bytes/key heap, %.1f bytes/key off-heap%n", "OffHeapAVLTree memory",
+            (double) offHeapHeapBytes / size, (double) offHeap.offHeapBytes() / size);
+      }
+
+      BenchmarkSupport.report("AVLTree insert", size, BenchmarkSupport.bestOf(() -> fill(new AVLTree(), keys)));
+      BenchmarkSupport.report("IntArrayAVLTree insert", size,
+          BenchmarkSupport.bestOf(() -> fill(new IntArrayAVLTree(), keys)));
+      BenchmarkSupport.report("OffHeapAVLTree insert", size, BenchmarkSupport.bestOf(() -> {
+        try (OffHeapAVLTree offHeap = new OffHeapAVLTree()) {
+          fill(offHeap, keys);
+        }
+      }));
+
+      IntTree nodeTree = fill(new AVLTree(), keys);
+      IntTree arrayTree = fill(new IntArrayAVLTree(), keys);
+      BenchmarkSupport.report("AVLTree contains", size, BenchmarkSupport.bestOf(() -> lookup(nodeTree, probes)));
+      BenchmarkSupport.report("IntArrayAVLTree contains", size,
+          BenchmarkSupport.bestOf(() -> lookup(arrayTree, probes)));
+      try (OffHeapAVLTree offHeapTree = new OffHeapAVLTree()) {
+        fill(offHeapTree, keys);
+        BenchmarkSupport.report("OffHeapAVLTree contains", size,
+            BenchmarkSupport.bestOf(() -> lookup(offHeapTree, probes)));
+      }
+    }
+  }
+
+  private static IntTree fill(IntTree tree, int[] keys) {
+    for (int key : keys) {
+      tree.add(key);
+    }
+    return tree;
+  }
+
+  private static void lookup(IntTree tree, int[] probes) {
+    int found = 0;
+    for (int probe : probes) {
+      if (tree.contains(probe)) {
+        found++;
+      }
+    }
+    if (found < 0) {
+      throw new IllegalStateException("unreachable");
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import java.util.function.Supplier;
+
+import at.hochschule.burgenland.bswe.algo.model.AVLTree;
+import at.hochschule.burgenland.bswe.algo.model.BalancedTree;
+import at.hochschule.burgenland.bswe.algo.model.RedBlackTree;
+import at.hochschule.burgenland.bswe.algo.model.WAVLTree;
+
+/**
+ * Compares the balancing strategies behind {@link BalancedTree}: for every workload, it reports the throughput,
+ * the rotations per operation and the final height of an {@link AVLTree}, a {@link WAVLTree} and a
+ * {@link RedBlackTree}. Insert-only workloads show the cost of the stricter AVL balance; the mixed workload,
+ * which removes as often as it inserts, shows where WAVL trees differ from AVL trees.
+ */
+public class BalancingBenchmark {
+
+  private static final int KEYS = 1_000_000;
+  private static final int MIXED_OPERATIONS = 2_000_000;
+  private static final int MIXED_KEY_RANGE = 200_000;
+
+  public static void main(String[] args) {
+    int[] increasing = new int[KEYS];
+    for (int i = 0; i < KEYS; i++) {
+      increasing[i] = i;
+    }
+    int[] random = BenchmarkSupport.randomKeys(KEYS, 42);
+    int[] mixed = BenchmarkSupport.randomKeys(MIXED_OPERATIONS, 7);
+    for (int i = 0; i < mixed.length; i++) {
+      mixed[i] = Math.floorMod(mixed[i], MIXED_KEY_RANGE);
+    }
+
+    System.out.println("\n=== " + KEYS + " increasing inserts ===");
+    runAll(increasing, false);
+    System.out.println("\n=== " + KEYS + " random inserts ===");
+    runAll(random, false);
+    System.out.println("\n=== " + MIXED_OPERATIONS + " mixed operations: even keys insert, odd keys remove ===");
+    runAll(mixed, true);
+  }
+
+  private static void runAll(int[] keys, boolean mixed) {
+    run("AVLTree", AVLTree::new, keys, mixed);
+    run("WAVLTree", WAVLTree::new, keys, mixed);
+    run("RedBlackTree", RedBlackTree::new, keys, mixed);
+  }
+
+  private static void run(String label, Supplier<BalancedTree> factory, int[] keys, boolean mixed) {
+    BenchmarkSupport.report(label, keys.length, BenchmarkSupport.bestOf(() -> apply(factory.get(), keys, mixed)));
+    // The statistics come from an untimed run, since height() walks the whole tree for WAVL and red-black trees
+    BalancedTree tree = factory.get();
+    apply(tree, keys, mixed);
+    System.out.printf("%-45s %10.3f rotations/op, height %d, size %d%n", "",
+        (double) tree.getRotations() / keys.length, tree.height(), tree.size());
+  }
+
+  /**
+   * Inserts every key, or, for the mixed workload, inserts even keys and removes the key one below every odd key,
+   * so that the tree stays at a steady size while it is constantly rebalanced in both directions.
+   */
+  private static void apply(BalancedTree tree, int[] keys, boolean mixed) {
+    for (int key : keys) {
+      if (!mixed || (key & 1) == 0) {
+        tree.add(key);
+      } else {
+        tree.remove(key - 1);
+      }
+    }
+  }
+}
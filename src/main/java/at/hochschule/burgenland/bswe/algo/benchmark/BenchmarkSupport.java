@@ -0,0 +1,141 @@
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Small helpers shared by the benchmark programs in this package.
+ * The benchmarks are plain main methods that warm up the JIT, repeat every measurement
+ * a few times and report the best run, which is good enough to compare implementations
+ * against each other on the same machine.
+ */
+final class BenchmarkSupport {
+
+  static final int WARMUP_RUNS = 3;
+  static final int MEASURED_RUNS = 5;
+
+  /**
+   * Keeps a measured structure reachable, so that the JIT cannot discard it before the measurement ends.
+   */
+  private static volatile Object sink;
+
+  private BenchmarkSupport() {
+  }
+
+  /**
+   * Creates an array of pseudo-random keys. The same seed always produces the same keys.
+   *
+   * @param count the number of keys to create
+   * @param seed  the seed of the random generator
+   * @return an array of {@code count} random integers (duplicates are possible)
+   */
+  static int[] randomKeys(int count, long seed) {
+    Random random = new Random(seed);
+    int[] keys = new int[count];
+    for (int i = 0; i < count; i++) {
+      keys[i] = random.nextInt();
+    }
+    return keys;
+  }
+
+  /**
+   * Runs a task {@link #WARMUP_RUNS} times without measuring and then {@link #MEASURED_RUNS} times,
+   * returning the fastest measured run.
+   *
+   * @param task the task to measure
+   * @return the duration of the fastest run in nanoseconds
+   */
+  static long bestOf(Runnable task) {
+    for (int i = 0; i < WARMUP_RUNS; i++) {
+      task.run();
+    }
+
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < MEASURED_RUNS; i++) {
+      long start = System.nanoTime();
+      task.run();
+      best = Math.min(best, System.nanoTime() - start);
+    }
+    return best;
+  }
+
+  /**
+   * Like {@link #bestOf(Runnable)}, but for tasks that consume their input: before every run, a fresh input
+   * is created outside the measured time.
+   *
+   * @param setup creates the input of one run
+   * @param task  the task to measure
+   * @param <T>   the type of the input
+   * @return the duration of the fastest run in nanoseconds
+   */
+  static <T> long bestOf(Supplier<T> setup, Consumer<T> task) {
+    for (int i = 0; i < WARMUP_RUNS; i++) {
+      task.accept(setup.get());
+    }
+
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < MEASURED_RUNS; i++) {
+      T input = setup.get();
+      long start = System.nanoTime();
+      task.accept(input);
+      best = Math.min(best, System.nanoTime() - start);
+    }
+    return best;
+  }
+
+  /**
+   * Runs a task while everything written to {@link System#out} is discarded,
+   * so that console I/O does not distort the measurement of code that prints.
+   *
+   * @param task the task to run
+   */
+  static void silently(Runnable task) {
+    PrintStream original = System.out;
+    System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    try {
+      task.run();
+    } finally {
+      System.setOut(original);
+    }
+  }
+
+  /**
+   * Estimates the heap memory retained by the object a factory creates, by comparing the used heap
+   * after garbage collection before and after creating it. The estimate is rough, but stable enough
+   * for large structures.
+   *
+   * @param factory creates the structure to measure
+   * @return the retained heap in bytes
+   */
+  static long retainedBytes(Supplier<Object> factory) {
+    long before = usedHeapAfterGc();
+    sink = factory.get();
+    long after = usedHeapAfterGc();
+    sink = null;
+    return after - before;
+  }
+
+  private static long usedHeapAfterGc() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  /**
+   * Prints one result line with the time per operation and the resulting throughput.
+   *
+   * @param label      a short description of what was measured
+   * @param operations the number of operations performed by one run
+   * @param nanos      the duration of the run in nanoseconds
+   */
+  static void report(String label, long operations, long nanos) {
+    double nanosPerOp = (double) nanos / operations;
+    double opsPerSecond = operations * 1_000_000_000.0 / nanos;
+    System.out.printf("%-45s %10.1f ns/op %14.0f ops/s%n", label, nanosPerOp, opsPerSecond);
+  }
+}
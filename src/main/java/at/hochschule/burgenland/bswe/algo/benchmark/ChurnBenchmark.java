@@ -0,0 +1,95 @@
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+import at.hochschule.burgenland.bswe.algo.model.AVLTree;
+
+/**
+ * Compares a regular {@link AVLTree} with a pooled one ({@link AVLTree#pooled()}) under insert/evict churn:
+ * the tree holds a sliding window of the most recent keys, so every insertion is followed by the removal
+ * of the oldest key. Besides the throughput, the bytes allocated by the benchmark thread and the number and
+ * accumulated duration of garbage collections during the measured runs are reported.
+ * A second workload repeatedly fills and clears a tree, where the pooled tree reuses all of its nodes.
+ */
+public class ChurnBenchmark {
+
+  private static final int WINDOW = 100_000;
+  private static final int OPERATIONS = 5_000_000;
+  private static final int REFILLS = 50;
+
+  private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  public static void main(String[] args) {
+    int[] keys = BenchmarkSupport.randomKeys(WINDOW + OPERATIONS, 42);
+
+    System.out.println("=== sliding window of " + WINDOW + " keys, " + OPERATIONS + " insert/evict pairs ===");
+    measure("regular AVLTree", OPERATIONS, () -> churn(new AVLTree(), keys));
+    measure("pooled AVLTree", OPERATIONS, () -> churn(AVLTree.pooled(), keys));
+
+    System.out.println("\n=== " + REFILLS + " times fill " + WINDOW + " keys and clear ===");
+    measure("regular AVLTree", (long) REFILLS * WINDOW, () -> refill(new AVLTree(), keys));
+    measure("pooled AVLTree", (long) REFILLS * WINDOW, () -> refill(AVLTree.pooled(), keys));
+  }
+
+  private static void churn(AVLTree tree, int[] keys) {
+    for (int i = 0; i < WINDOW; i++) {
+      tree.add(keys[i]);
+    }
+    for (int i = WINDOW; i < keys.length; i++) {
+      tree.add(keys[i]);
+      tree.remove(keys[i - WINDOW]);
+    }
+  }
+
+  private static void refill(AVLTree tree, int[] keys) {
+    for (int round = 0; round < REFILLS; round++) {
+      for (int i = 0; i < WINDOW; i++) {
+        tree.add(keys[i]);
+      }
+      tree.clear();
+    }
+  }
+
+  private static void measure(String label, long operations, Runnable task) {
+    for (int i = 0; i < BenchmarkSupport.WARMUP_RUNS; i++) {
+      task.run();
+    }
+
+    long threadId = Thread.currentThread().getId();
+    long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+    long collectionsBefore = collections();
+    long collectionMillisBefore = collectionMillis();
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < BenchmarkSupport.MEASURED_RUNS; i++) {
+      long start = System.nanoTime();
+      task.run();
+      best = Math.min(best, System.nanoTime() - start);
+    }
+    long runs = BenchmarkSupport.MEASURED_RUNS;
+    double allocatedPerOp = (double) (THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore)
+        / (runs * operations);
+
+    BenchmarkSupport.report(label, operations, best);
+    System.out.printf("%-45s %10.1f bytes/op %7.1f GCs/run %8.1f ms GC/run%n", "",
+        allocatedPerOp, (double) (collections() - collectionsBefore) / runs,
+        (double) (collectionMillis() - collectionMillisBefore) / runs);
+  }
+
+  private static long collections() {
+    long count = 0;
+    for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+      count += Math.max(0, collector.getCollectionCount());
+    }
+    return count;
+  }
+
+  private static long collectionMillis() {
+    long millis = 0;
+    for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+      millis += Math.max(0, collector.getCollectionTime());
+    }
+    return millis;
+  }
+}
@@ -0,0 +1,121 @@
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import at.hochschule.burgenland.bswe.algo.model.AVLTree;
+import at.hochschule.burgenland.bswe.algo.model.ConcurrentAVLTree;
+import at.hochschule.burgenland.bswe.algo.model.IntTree;
+import at.hochschule.burgenland.bswe.algo.model.Node;
+
+/**
+ * Measures lookup throughput with an increasing number of reader threads while two writer threads keep
+ * inserting and removing keys. {@link ConcurrentAVLTree} is compared with an {@link AVLTree} whose
+ * methods are all {@code synchronized}, which serializes readers.
+ */
+public class ConcurrentBenchmark {
+
+  private static final int KEYS = 1_000_000;
+  private static final int KEY_RANGE = 4 * KEYS;
+  private static final int WRITERS = 2;
+  private static final int[] READERS = {1, 2, 4, 8, 16, 32};
+  private static final long DURATION_MILLIS = 2_000;
+
+  public static void main(String[] args) throws InterruptedException {
+    System.out.println("Available processors: " + Runtime.getRuntime().availableProcessors());
+    for (int readers : READERS) {
+      System.out.println("\n=== " + readers + " readers, " + WRITERS + " writers ===");
+      run("synchronized AVLTree", new SynchronizedAVLTree(), readers);
+      run("ConcurrentAVLTree", new ConcurrentAVLTree(), readers);
+    }
+  }
+
+  private static void run(String label, IntTree tree, int readers) throws InterruptedException {
+    int[] keys = BenchmarkSupport.randomKeys(KEYS, 42);
+    for (int key : keys) {
+      tree.add(Math.floorMod(key, KEY_RANGE));
+    }
+
+    AtomicBoolean running = new AtomicBoolean(true);
+    LongAdder lookups = new LongAdder();
+    LongAdder writes = new LongAdder();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < readers; i++) {
+      threads.add(new Thread(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long count = 0;
+        while (running.get()) {
+          tree.contains(random.nextInt(KEY_RANGE));
+          count++;
+        }
+        lookups.add(count);
+      }));
+    }
+    for (int i = 0; i < WRITERS; i++) {
+      threads.add(new Thread(() -> {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long count = 0;
+        while (running.get()) {
+          int key = random.nextInt(KEY_RANGE);
+          if (random.nextBoolean()) {
+            tree.add(key);
+          } else {
+            tree.remove(key);
+          }
+          count++;
+        }
+        writes.add(count);
+      }));
+    }
+
+    threads.forEach(Thread::start);
+    Thread.sleep(DURATION_MILLIS);
+    running.set(false);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    System.out.printf("%-25s %14.0f lookups/s %12.0f writes/s%n", label,
+        lookups.sum() * 1000.0 / DURATION_MILLIS, writes.sum() * 1000.0 / DURATION_MILLIS);
+  }
+
+  /**
+   * The baseline: every call is serialized on the tree's monitor.
+   */
+  private static final class SynchronizedAVLTree implements IntTree {
+    private final AVLTree tree = new AVLTree();
+
+    @Override
+    public synchronized void insert(int value) {
+      tree.insert(value);
+    }
+
+    @Override
+    public synchronized boolean add(int value) {
+      return tree.add(value);
+    }
+
+    @Override
+    public synchronized boolean remove(int value) {
+      return tree.remove(value);
+    }
+
+    @Override
+    public synchronized boolean contains(int value) {
+      return tree.contains(value);
+    }
+
+    @Override
+    public synchronized int size() {
+      return tree.size();
+    }
+
+    @Override
+    public synchronized Node getRoot() {
+      return tree.getRoot();
+    }
+  }
+}
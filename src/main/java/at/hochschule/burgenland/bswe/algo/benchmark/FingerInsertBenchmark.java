@@ -0,0 +1,67 @@
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import java.util.Random;
+
+import at.hochschule.burgenland.bswe.algo.model.AVLTree;
+
+/**
+ * Measures insertion into an empty tree for streams of increasing, nearly sorted and random keys.
+ * {@link AVLTree#add(int)} resumes its descent from the path of the previous insertion (the finger),
+ * so increasing and nearly sorted keys skip most of the comparisons from the root, while the recursive
+ * {@link AVLTree#insert(int)} always starts at the root.
+ */
+public class FingerInsertBenchmark {
+
+  private static final int KEYS = 1_000_000;
+
+  /**
+   * How far a key of the nearly sorted stream may be displaced from its sorted position.
+   */
+  private static final int DISPLACEMENT = 16;
+
+  public static void main(String[] args) {
+    run("increasing", increasingKeys());
+    run("nearly sorted", nearlySortedKeys());
+    run("random", BenchmarkSupport.randomKeys(KEYS, 42));
+  }
+
+  private static void run(String stream, int[] keys) {
+    System.out.println("\n=== " + KEYS + " " + stream + " keys ===");
+    BenchmarkSupport.report("AVLTree.add (finger)", KEYS, BenchmarkSupport.bestOf(() -> {
+      AVLTree tree = new AVLTree();
+      for (int key : keys) {
+        tree.add(key);
+      }
+    }));
+    BenchmarkSupport.report("AVLTree.insert (recursive, from root)", KEYS, BenchmarkSupport.bestOf(() -> {
+      AVLTree tree = new AVLTree();
+      for (int key : keys) {
+        tree.insert(key);
+      }
+    }));
+  }
+
+  private static int[] increasingKeys() {
+    int[] keys = new int[KEYS];
+    for (int i = 0; i < KEYS; i++) {
+      keys[i] = i;
+    }
+    return keys;
+  }
+
+  /**
+   * Creates the increasing keys with every key swapped with a random key at most {@link #DISPLACEMENT}
+   * positions ahead of it, like timestamps arriving slightly out of order.
+   */
+  private static int[] nearlySortedKeys() {
+    int[] keys = increasingKeys();
+    Random random = new Random(42);
+    for (int i = 0; i < KEYS; i++) {
+      int j = Math.min(KEYS - 1, i + random.nextInt(DISPLACEMENT + 1));
+      int swap = keys[i];
+      keys[i] = keys[j];
+      keys[j] = swap;
+    }
+    return keys;
+  }
+}
@@ -0,0 +1,66 @@
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import java.util.Arrays;
+
+import at.hochschule.burgenland.bswe.algo.model.AVLTree;
+import at.hochschule.burgenland.bswe.algo.model.FrozenAVLTree;
+
+/**
+ * Compares the lookup latency of the pointer-based {@link AVLTree} with its frozen Eytzinger layout
+ * ({@link AVLTree#freeze()}) and a binary search over the sorted values, with half of the probes hitting
+ * a stored key.
+ */
+public class FrozenLookupBenchmark {
+
+  private static final int[] SIZES = {1_000_000, 10_000_000};
+  private static final int PROBES = 1_000_000;
+
+  public static void main(String[] args) {
+    for (int size : SIZES) {
+      System.out.println("\n=== " + size + " keys ===");
+      int[] keys = BenchmarkSupport.randomKeys(size, 42);
+      AVLTree tree = AVLTree.bulkLoad(keys);
+      FrozenAVLTree frozen = tree.freeze();
+      int[] sorted = frozen.traverse("inorder");
+
+      int[] probes = BenchmarkSupport.randomKeys(PROBES, 7);
+      for (int i = 0; i < PROBES; i += 2) {
+        probes[i] = keys[(probes[i] & Integer.MAX_VALUE) % size];
+      }
+
+      BenchmarkSupport.report("AVLTree.contains", PROBES, BenchmarkSupport.bestOf(() -> {
+        int found = 0;
+        for (int probe : probes) {
+          if (tree.contains(probe)) {
+            found++;
+          }
+        }
+        consume(found);
+      }));
+      BenchmarkSupport.report("FrozenAVLTree.contains", PROBES, BenchmarkSupport.bestOf(() -> {
+        int found = 0;
+        for (int probe : probes) {
+          if (frozen.contains(probe)) {
+            found++;
+          }
+        }
+        consume(found);
+      }));
+      BenchmarkSupport.report("Arrays.binarySearch", PROBES, BenchmarkSupport.bestOf(() -> {
+        int found = 0;
+        for (int probe : probes) {
+          if (Arrays.binarySearch(sorted, probe) >= 0) {
+            found++;
+          }
+        }
+        consume(found);
+      }));
+    }
+  }
+
+  private static void consume(int found) {
+    if (found < 0) {
+      throw new IllegalStateException("unreachable");
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import at.hochschule.burgenland.bswe.algo.display.ConsoleAVLTreeListener;
+import at.hochschule.burgenland.bswe.algo.model.AVLTree;
+import at.hochschule.burgenland.bswe.algo.model.CountingAVLTreeListener;
+
+/**
+ * Compares the recursive {@link AVLTree#insert(int)} with the iterative, allocation-free {@link AVLTree#add(int)}
+ * on random and ascending keys, and shows the cost of the attached {@link at.hochschule.burgenland.bswe.algo.model.AVLTreeListener}.
+ * The output of the console listener is discarded, so only the string building remains in its measurement.
+ */
+public class InsertBenchmark {
+
+  private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+
+  public static void main(String[] args) {
+    for (int size : SIZES) {
+      System.out.println("\n=== " + size + " keys ===");
+      int[] random = BenchmarkSupport.randomKeys(size, 42);
+      int[] ascending = new int[size];
+      for (int i = 0; i < size; i++) {
+        ascending[i] = i;
+      }
+
+      run("random", random);
+      run("ascending", ascending);
+    }
+  }
+
+  private static void run(String label, int[] keys) {
+    long console = BenchmarkSupport.bestOf(() -> BenchmarkSupport.silently(() -> {
+      AVLTree tree = new AVLTree(new ConsoleAVLTreeListener());
+      for (int key : keys) {
+        tree.insert(key);
+      }
+    }));
+    long recursive = BenchmarkSupport.bestOf(() -> {
+      AVLTree tree = new AVLTree();
+      for (int key : keys) {
+        tree.insert(key);
+      }
+    });
+    long iterative = BenchmarkSupport.bestOf(() -> {
+      AVLTree tree = new AVLTree();
+      for (int key : keys) {
+        tree.add(key);
+      }
+    });
+    long counting = BenchmarkSupport.bestOf(() -> {
+      AVLTree tree = new AVLTree(new CountingAVLTreeListener());
+      for (int key : keys) {
+        tree.add(key);
+      }
+    });
+
+    BenchmarkSupport.report("insert, console listener " + label, keys.length, console);
+    BenchmarkSupport.report("insert, no listener " + label, keys.length, recursive);
+    BenchmarkSupport.report("add, no listener " + label, keys.length, iterative);
+    BenchmarkSupport.report("add, counting listener " + label, keys.length, counting);
+    System.out.printf("speed-up of add over printing insert: %.1fx%n", (double) console / iterative);
+  }
+}
@@ -0,0 +1,61 @@
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import at.hochschule.burgenland.bswe.algo.model.LongAVLTree;
+
+/**
+ * Compares {@link LongAVLTree} with a {@code TreeSet<Long>}, which boxes every 64-bit key,
+ * in retained heap memory, insert and lookup throughput.
+ */
+public class LongKeyBenchmark {
+
+  private static final int KEYS = 1_000_000;
+
+  public static void main(String[] args) {
+    long[] keys = new long[KEYS];
+    Random random = new Random(42);
+    for (int i = 0; i < KEYS; i++) {
+      keys[i] = random.nextLong();
+    }
+
+    System.out.println("=== " + KEYS + " random 64-bit keys ===");
+    long treeBytes = BenchmarkSupport.retainedBytes(() -> buildTree(keys));
+    long setBytes = BenchmarkSupport.retainedBytes(() -> buildSet(keys));
+    System.out.printf("%-45s %10.1f bytes/key%n", "LongAVLTree memory", (double) treeBytes / KEYS);
+    System.out.printf("%-45s %10.1f bytes/key%n", "TreeSet<Long> memory", (double) setBytes / KEYS);
+
+    BenchmarkSupport.report("LongAVLTree.add", KEYS, BenchmarkSupport.bestOf(() -> buildTree(keys)));
+    BenchmarkSupport.report("TreeSet<Long>.add", KEYS, BenchmarkSupport.bestOf(() -> buildSet(keys)));
+
+    LongAVLTree tree = buildTree(keys);
+    TreeSet<Long> set = buildSet(keys);
+    BenchmarkSupport.report("LongAVLTree.contains", KEYS, BenchmarkSupport.bestOf(() -> {
+      for (long key : keys) {
+        tree.contains(key);
+      }
+    }));
+    BenchmarkSupport.report("TreeSet<Long>.contains", KEYS, BenchmarkSupport.bestOf(() -> {
+      for (long key : keys) {
+        set.contains(key);
+      }
+    }));
+  }
+
+  private static LongAVLTree buildTree(long[] keys) {
+    LongAVLTree tree = new LongAVLTree();
+    for (long key : keys) {
+      tree.add(key);
+    }
+    return tree;
+  }
+
+  private static TreeSet<Long> buildSet(long[] keys) {
+    TreeSet<Long> set = new TreeSet<>();
+    for (long key : keys) {
+      set.add(key);
+    }
+    return set;
+  }
+}
@@ -0,0 +1,72 @@
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import at.hochschule.burgenland.bswe.algo.model.AVLTree;
+import at.hochschule.burgenland.bswe.algo.model.Node;
+
+/**
+ * Measures the latency of {@link AVLTree#contains(int)} and {@link AVLTree#find(int)} at 1K, 1M and 10M keys,
+ * with half of the probes hitting a stored key. For the smallest tree, the full recursive scan that the menu
+ * used to perform before every manual insert is measured as well.
+ */
+public class LookupBenchmark {
+
+  private static final int[] SIZES = {1_000, 1_000_000, 10_000_000};
+  private static final int PROBES = 1_000_000;
+
+  public static void main(String[] args) {
+    for (int size : SIZES) {
+      System.out.println("\n=== " + size + " keys ===");
+      int[] keys = BenchmarkSupport.randomKeys(size, 42);
+      AVLTree tree = AVLTree.bulkLoad(keys);
+
+      int[] probes = BenchmarkSupport.randomKeys(PROBES, 7);
+      for (int i = 0; i < PROBES; i += 2) {
+        probes[i] = keys[(probes[i] & Integer.MAX_VALUE) % size];
+      }
+
+      BenchmarkSupport.report("contains", PROBES, BenchmarkSupport.bestOf(() -> {
+        int found = 0;
+        for (int probe : probes) {
+          if (tree.contains(probe)) {
+            found++;
+          }
+        }
+        consume(found);
+      }));
+      BenchmarkSupport.report("find", PROBES, BenchmarkSupport.bestOf(() -> {
+        int found = 0;
+        for (int probe : probes) {
+          if (tree.find(probe) != null) {
+            found++;
+          }
+        }
+        consume(found);
+      }));
+
+      if (size <= 1_000) {
+        BenchmarkSupport.report("full scan (previous menu check)", PROBES, BenchmarkSupport.bestOf(() -> {
+          int found = 0;
+          for (int probe : probes) {
+            if (scan(tree.getRoot(), probe)) {
+              found++;
+            }
+          }
+          consume(found);
+        }));
+      }
+    }
+  }
+
+  private static boolean scan(Node node, int value) {
+    if (node == null) {
+      return false;
+    }
+    return node.value == value || scan(node.left, value) || scan(node.right, value);
+  }
+
+  private static void consume(int found) {
+    if (found < 0) {
+      throw new IllegalStateException("unreachable");
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import at.hochschule.burgenland.bswe.algo.model.AVLTree;
+
+/**
+ * Measures how heavily duplicated input is ingested: the previous menu approach removes duplicates with
+ * {@code List.contains} before inserting the distinct values, while a multiset {@link AVLTree} counts
+ * every repeated value with a single descent.
+ */
+public class MultisetBenchmark {
+
+  private static final int[] EVENTS = {10_000, 100_000};
+  private static final int DISTINCT = 1_000;
+
+  public static void main(String[] args) {
+    for (int events : EVENTS) {
+      int[] keys = BenchmarkSupport.randomKeys(events, 42);
+      for (int i = 0; i < keys.length; i++) {
+        keys[i] = Math.floorMod(keys[i], DISTINCT);
+      }
+
+      System.out.println("\n=== " + events + " events over " + DISTINCT + " distinct values ===");
+      BenchmarkSupport.report("List.contains dedup + AVLTree.add", events, BenchmarkSupport.bestOf(() -> {
+        List<Integer> unique = new ArrayList<>();
+        for (int key : keys) {
+          if (!unique.contains(key)) {
+            unique.add(key);
+          }
+        }
+        AVLTree tree = new AVLTree();
+        for (int key : unique) {
+          tree.add(key);
+        }
+      }));
+      BenchmarkSupport.report("multiset AVLTree.add", events, BenchmarkSupport.bestOf(() -> {
+        AVLTree multiset = AVLTree.multiset();
+        for (int key : keys) {
+          multiset.add(key);
+        }
+      }));
+    }
+  }
+}
@@ -0,0 +1,57 @@
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+
+import at.hochschule.burgenland.bswe.algo.model.AVLTree;
+import at.hochschule.burgenland.bswe.algo.model.Node;
+import at.hochschule.burgenland.bswe.algo.traversal.TreeTraverser;
+
+/**
+ * Compares aggregations over all values of a large AVL tree: a materialised in-order traversal followed by a
+ * loop, the lazy sequential {@link TreeTraverser#stream(at.hochschule.burgenland.bswe.algo.model.TreeNode, String)}
+ * and the {@link TreeTraverser#parallelStream(Node)}, which splits the tree at subtree boundaries across the common
+ * fork-join pool. The speedup of the parallel stream is bounded by the reported parallelism; with a single worker
+ * it shows the overhead of splitting.
+ */
+public class ParallelTraversalBenchmark {
+
+  private static final int KEYS = 4_000_000;
+
+  private static long blackhole;
+
+  public static void main(String[] args) {
+    AVLTree tree = AVLTree.bulkLoad(BenchmarkSupport.randomKeys(KEYS, 42));
+    Node root = tree.getRoot();
+    int nodes = tree.size();
+    System.out.println("Available processors: " + Runtime.getRuntime().availableProcessors()
+        + ", common pool parallelism: " + ForkJoinPool.getCommonPoolParallelism());
+
+    System.out.println("\n=== sum of " + nodes + " nodes ===");
+    BenchmarkSupport.report("traverse + loop over int[]", nodes, BenchmarkSupport.bestOf(() -> {
+      long sum = 0;
+      for (int value : TreeTraverser.traverse(root, "inorder")) {
+        sum += value;
+      }
+      sink(sum);
+    }));
+    BenchmarkSupport.report("sequential stream()", nodes, BenchmarkSupport.bestOf(
+        () -> sink(TreeTraverser.stream(root, "inorder").asLongStream().sum())));
+    BenchmarkSupport.report("parallelStream()", nodes, BenchmarkSupport.bestOf(
+        () -> sink(TreeTraverser.parallelStream(root).asLongStream().sum())));
+
+    System.out.println("\n=== count of values divisible by 7 among " + nodes + " nodes ===");
+    BenchmarkSupport.report("sequential stream()", nodes, BenchmarkSupport.bestOf(
+        () -> sink(TreeTraverser.stream(root, "inorder").filter(v -> v % 7 == 0).count())));
+    BenchmarkSupport.report("parallelStream()", nodes, BenchmarkSupport.bestOf(
+        () -> sink(TreeTraverser.parallelStream(root).filter(v -> v % 7 == 0).count())));
+
+    System.out.println("\n=== toArray of " + nodes + " nodes (ordered) ===");
+    BenchmarkSupport.report("traverse", nodes, BenchmarkSupport.bestOf(() -> TreeTraverser.traverse(root, "inorder")));
+    BenchmarkSupport.report("parallelStream().toArray()", nodes, BenchmarkSupport.bestOf(
+        () -> TreeTraverser.parallelStream(root).toArray()));
+  }
+
+  private static void sink(long value) {
+    blackhole ^= value;
+  }
+}
@@ -0,0 +1,49 @@
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import at.hochschule.burgenland.bswe.algo.model.AVLSetOperations;
+import at.hochschule.burgenland.bswe.algo.model.AVLTree;
+import at.hochschule.burgenland.bswe.algo.traversal.TreeTraverser;
+
+/**
+ * Compares merging two {@link AVLTree}s by re-inserting every key of the smaller tree into the larger one
+ * with the join-based {@link AVLSetOperations#union(AVLTree, AVLTree)}, for a large tree and smaller trees
+ * of increasing size. Intersection and difference are measured on the same inputs.
+ * The input trees are rebuilt before every run, because the set operations consume them.
+ */
+public class SetOperationsBenchmark {
+
+  private static final int LARGE = 1_000_000;
+  private static final int[] SMALL = {1_000, 100_000, 1_000_000};
+
+  public static void main(String[] args) {
+    System.out.println("Available processors: " + Runtime.getRuntime().availableProcessors());
+    int[] largeKeys = BenchmarkSupport.randomKeys(LARGE, 42);
+    for (int small : SMALL) {
+      int[] smallKeys = BenchmarkSupport.randomKeys(small, 7);
+      System.out.println("\n=== " + LARGE + " keys with " + small + " keys ===");
+
+      long reinsert = BenchmarkSupport.bestOf(() -> inputs(largeKeys, smallKeys), trees -> {
+        for (int key : TreeTraverser.traverse(trees[1].getRoot(), "inorder")) {
+          trees[0].add(key);
+        }
+      });
+      BenchmarkSupport.report("union by re-inserting", small, reinsert);
+
+      long union = BenchmarkSupport.bestOf(() -> inputs(largeKeys, smallKeys),
+          trees -> AVLSetOperations.union(trees[0], trees[1]));
+      BenchmarkSupport.report("AVLSetOperations.union", small, union);
+
+      long intersection = BenchmarkSupport.bestOf(() -> inputs(largeKeys, smallKeys),
+          trees -> AVLSetOperations.intersection(trees[0], trees[1]));
+      BenchmarkSupport.report("AVLSetOperations.intersection", small, intersection);
+
+      long difference = BenchmarkSupport.bestOf(() -> inputs(largeKeys, smallKeys),
+          trees -> AVLSetOperations.difference(trees[0], trees[1]));
+      BenchmarkSupport.report("AVLSetOperations.difference", small, difference);
+    }
+  }
+
+  private static AVLTree[] inputs(int[] largeKeys, int[] smallKeys) {
+    return new AVLTree[] {AVLTree.bulkLoad(largeKeys), AVLTree.bulkLoad(smallKeys)};
+  }
+}
@@ -0,0 +1,47 @@
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+
+import at.hochschule.burgenland.bswe.algo.model.AVLTree;
+import at.hochschule.burgenland.bswe.algo.model.ShardedAVLTree;
+
+/**
+ * Measures the throughput of {@link ShardedAVLTree#addAll(int[])} for an increasing number of worker threads,
+ * compared with inserting the same keys one by one into a single {@link AVLTree}.
+ * Every run ingests into a fresh forest with a fixed number of shards, so the work per run is the same
+ * and only the parallelism of the {@link ForkJoinPool} changes.
+ */
+public class ShardedIngestBenchmark {
+
+  private static final int KEYS = 2_000_000;
+  private static final int SHARDS = 64;
+  private static final int SAMPLE_SIZE = 10_000;
+
+  public static void main(String[] args) {
+    int processors = Runtime.getRuntime().availableProcessors();
+    System.out.println("Available processors: " + processors);
+    int[] keys = BenchmarkSupport.randomKeys(KEYS, 42);
+    int[] sample = BenchmarkSupport.randomKeys(SAMPLE_SIZE, 7);
+
+    System.out.println("\n=== " + KEYS + " keys ===");
+    long single = BenchmarkSupport.bestOf(() -> {
+      AVLTree tree = new AVLTree();
+      for (int key : keys) {
+        tree.add(key);
+      }
+    });
+    BenchmarkSupport.report("single AVLTree.add", KEYS, single);
+
+    for (int parallelism = 1; parallelism <= Math.max(2 * processors, 2); parallelism *= 2) {
+      ForkJoinPool pool = new ForkJoinPool(parallelism);
+      try {
+        long even = BenchmarkSupport.bestOf(() -> new ShardedAVLTree(SHARDS, pool).addAll(keys));
+        BenchmarkSupport.report(SHARDS + " even shards, " + parallelism + " threads", KEYS, even);
+        long sampled = BenchmarkSupport.bestOf(() -> ShardedAVLTree.fromSample(sample, SHARDS, pool).addAll(keys));
+        BenchmarkSupport.report(SHARDS + " sampled shards, " + parallelism + " threads", KEYS, sampled);
+      } finally {
+        pool.shutdown();
+      }
+    }
+  }
+}
@@ -0,0 +1,203 @@
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Supplier;
+
+import at.hochschule.burgenland.bswe.algo.model.AVLTree;
+import at.hochschule.burgenland.bswe.algo.model.Node;
+import at.hochschule.burgenland.bswe.algo.model.TreeNode;
+import at.hochschule.burgenland.bswe.algo.traversal.TreeTraverser;
+
+/**
+ * Compares {@link TreeTraverser#traverse(TreeNode, String)}, which writes into a presized {@code int[]}
+ * with an explicit stack, with the previous implementation that recursed once per level, collected boxed
+ * values in a {@code List<Integer>} and unboxed them with a stream. Besides the time per traversed node,
+ * the bytes allocated per traversed node are reported. Finally, aggregating the minimum, maximum and count
+ * and reading the first values are compared between a materialised traversal and the lazy
+ * {@link TreeTraverser#stream(TreeNode, String)}. Pre-order and in-order are also measured with
+ * {@link TreeTraverser#traverseMorris(Node, String)} against a recursive traversal into the same presized
+ * {@code int[]} and against the explicit stack, on the balanced tree and on a degenerate one, where recursion
+ * overflows the call stack and the explicit stack has to hold every node while the Morris traversal still needs
+ * no extra space.
+ */
+public class TraversalBenchmark {
+
+  private static final int KEYS = 1_000_000;
+  private static final int FIRST = 10;
+  private static final String[] ORDERS = {"preorder", "inorder", "postorder", "levelorder"};
+
+  private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  public static void main(String[] args) {
+    AVLTree tree = AVLTree.bulkLoad(BenchmarkSupport.randomKeys(KEYS, 42));
+    Node root = tree.getRoot();
+    int nodes = tree.size();
+
+    for (String order : ORDERS) {
+      System.out.println("\n=== " + order + " of " + nodes + " nodes ===");
+      measure("List<Integer> + recursion (previous)", nodes, () -> ListTraversal.traverse(root, order));
+      measure("int[] + explicit stack", nodes, () -> TreeTraverser.traverse(root, order));
+      if (order.equals("preorder") || order.equals("inorder")) {
+        measure("int[] + recursion", nodes, () -> RecursiveTraversal.traverse(root, order, nodes));
+        measure("Morris (threaded, O(1) extra space)", nodes, () -> TreeTraverser.traverseMorris(root, order));
+      }
+    }
+
+    // The recursive baseline would overflow the call stack on this tree
+    Node skewed = leftSkewed(KEYS);
+    System.out.println("\n=== inorder of " + KEYS + " left-skewed nodes ===");
+    measure("int[] + explicit stack", KEYS, () -> TreeTraverser.traverse(skewed, "inorder"));
+    measure("Morris (threaded, O(1) extra space)", KEYS, () -> TreeTraverser.traverseMorris(skewed, "inorder"));
+
+    System.out.println("\n=== min, max and count of " + nodes + " nodes ===");
+    measure("traverse + loop over int[]", nodes, () -> {
+      IntSummaryStatistics statistics = new IntSummaryStatistics();
+      for (int value : TreeTraverser.traverse(root, "inorder")) {
+        statistics.accept(value);
+      }
+      return new int[] {statistics.getMin(), statistics.getMax(), (int) statistics.getCount()};
+    });
+    measure("lazy stream().summaryStatistics()", nodes, () -> {
+      IntSummaryStatistics statistics = TreeTraverser.stream(root, "inorder").summaryStatistics();
+      return new int[] {statistics.getMin(), statistics.getMax(), (int) statistics.getCount()};
+    });
+
+    System.out.println("\n=== first " + FIRST + " values of " + nodes + " nodes (per traversal) ===");
+    measure("traverse + copyOf", 1, () -> Arrays.copyOf(TreeTraverser.traverse(root, "inorder"), FIRST));
+    measure("lazy stream().limit()", 1, () -> TreeTraverser.stream(root, "inorder").limit(FIRST).toArray());
+  }
+
+  private static Node leftSkewed(int count) {
+    Node root = null;
+    for (int value = 1; value <= count; value++) {
+      Node node = new Node(value);
+      node.left = root;
+      root = node;
+    }
+    return root;
+  }
+
+  /**
+   * Measures a traversal and reports its time and allocated bytes per operation, where one run performs
+   * {@code operations} operations.
+   */
+  private static void measure(String label, int operations, Supplier<int[]> traversal) {
+    long threadId = Thread.currentThread().getId();
+    long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+    long best = BenchmarkSupport.bestOf(traversal::get);
+    int runs = BenchmarkSupport.WARMUP_RUNS + BenchmarkSupport.MEASURED_RUNS;
+    double allocatedPerOp = (double) (THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore)
+        / ((long) runs * operations);
+
+    BenchmarkSupport.report(label, operations, best);
+    System.out.printf("%-45s %10.1f bytes/op%n", "", allocatedPerOp);
+  }
+
+  /**
+   * A recursive pre-order or in-order traversal into a presized {@code int[]}, the baseline for the Morris
+   * traversal: both write the same array, so only the way back up the tree differs.
+   */
+  private static final class RecursiveTraversal {
+
+    private static int[] traverse(Node root, String order, int size) {
+      int[] result = new int[size];
+      if (order.equals("preorder")) {
+        preOrder(root, result, 0);
+      } else {
+        inOrder(root, result, 0);
+      }
+      return result;
+    }
+
+    private static int preOrder(Node node, int[] result, int index) {
+      if (node == null) {
+        return index;
+      }
+      result[index++] = node.value;
+      index = preOrder(node.left, result, index);
+      return preOrder(node.right, result, index);
+    }
+
+    private static int inOrder(Node node, int[] result, int index) {
+      if (node == null) {
+        return index;
+      }
+      index = inOrder(node.left, result, index);
+      result[index++] = node.value;
+      return inOrder(node.right, result, index);
+    }
+  }
+
+  /**
+   * The previous list-based, recursive traversal, kept as the baseline.
+   */
+  private static final class ListTraversal {
+
+    private static int[] traverse(TreeNode root, String order) {
+      List<Integer> result = new ArrayList<>();
+      switch (order) {
+        case "preorder":
+          preOrder(root, result);
+          break;
+        case "inorder":
+          inOrder(root, result);
+          break;
+        case "postorder":
+          postOrder(root, result);
+          break;
+        default:
+          levelOrder(root, result);
+      }
+      return result.stream().mapToInt(i -> i).toArray();
+    }
+
+    private static void preOrder(TreeNode node, List<Integer> result) {
+      if (node != null) {
+        result.add(node.getValue());
+        preOrder(node.getLeft(), result);
+        preOrder(node.getRight(), result);
+      }
+    }
+
+    private static void inOrder(TreeNode node, List<Integer> result) {
+      if (node != null) {
+        inOrder(node.getLeft(), result);
+        result.add(node.getValue());
+        inOrder(node.getRight(), result);
+      }
+    }
+
+    private static void postOrder(TreeNode node, List<Integer> result) {
+      if (node != null) {
+        postOrder(node.getLeft(), result);
+        postOrder(node.getRight(), result);
+        result.add(node.getValue());
+      }
+    }
+
+    private static void levelOrder(TreeNode root, List<Integer> result) {
+      if (root == null) {
+        return;
+      }
+      Queue<TreeNode> queue = new LinkedList<>();
+      queue.add(root);
+      while (!queue.isEmpty()) {
+        TreeNode node = queue.poll();
+        result.add(node.getValue());
+        if (node.getLeft() != null) {
+          queue.add(node.getLeft());
+        }
+        if (node.getRight() != null) {
+          queue.add(node.getRight());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import at.hochschule.burgenland.bswe.algo.model.AVLTree;
+import at.hochschule.burgenland.bswe.algo.model.AVLTreeMap;
+
+/**
+ * Compares {@link AVLTreeMap} with the previous approach of an {@link AVLTree} for the ordered keys plus a
+ * {@code HashMap<Integer, Long>} for the payloads, in retained heap memory and lookup throughput.
+ */
+public class TreeMapBenchmark {
+
+  private static final int KEYS = 1_000_000;
+
+  public static void main(String[] args) {
+    int[] keys = BenchmarkSupport.randomKeys(KEYS, 42);
+
+    System.out.println("=== " + KEYS + " random keys ===");
+    long mapBytes = BenchmarkSupport.retainedBytes(() -> buildMap(keys));
+    long pairBytes = BenchmarkSupport.retainedBytes(() -> buildPair(keys));
+    System.out.printf("%-45s %10.1f bytes/entry%n", "AVLTreeMap memory", (double) mapBytes / KEYS);
+    System.out.printf("%-45s %10.1f bytes/entry%n", "AVLTree + HashMap<Integer, Long> memory",
+        (double) pairBytes / KEYS);
+
+    AVLTreeMap map = buildMap(keys);
+    Object[] pair = buildPair(keys);
+    AVLTree tree = (AVLTree) pair[0];
+    @SuppressWarnings("unchecked")
+    Map<Integer, Long> payloads = (Map<Integer, Long>) pair[1];
+    BenchmarkSupport.report("AVLTreeMap.getOrDefault", KEYS, BenchmarkSupport.bestOf(() -> {
+      for (int key : keys) {
+        map.getOrDefault(key, 0);
+      }
+    }));
+    BenchmarkSupport.report("AVLTree.contains + HashMap.get", KEYS, BenchmarkSupport.bestOf(() -> {
+      for (int key : keys) {
+        if (tree.contains(key)) {
+          payloads.get(key);
+        }
+      }
+    }));
+  }
+
+  private static AVLTreeMap buildMap(int[] keys) {
+    AVLTreeMap map = new AVLTreeMap();
+    for (int key : keys) {
+      map.put(key, (long) key * key);
+    }
+    return map;
+  }
+
+  private static Object[] buildPair(int[] keys) {
+    AVLTree tree = new AVLTree();
+    Map<Integer, Long> payloads = new HashMap<>();
+    for (int key : keys) {
+      tree.add(key);
+      payloads.put(key, (long) key * key);
+    }
+    return new Object[] {tree, payloads};
+  }
+}
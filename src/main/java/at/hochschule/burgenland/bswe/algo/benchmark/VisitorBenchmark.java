@@ -0,0 +1,99 @@
+package at.hochschule.burgenland.bswe.algo.benchmark;
+
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import at.hochschule.burgenland.bswe.algo.model.AVLTree;
+import at.hochschule.burgenland.bswe.algo.model.Node;
+import at.hochschule.burgenland.bswe.algo.traversal.TreeTraverser;
+import at.hochschule.burgenland.bswe.algo.traversal.TreeVisitor;
+
+/**
+ * Compares partial queries on a large AVL tree answered by a full {@link TreeTraverser#traverse(
+ * at.hochschule.burgenland.bswe.algo.model.TreeNode, String)} followed by a scan of the array with the visitor
+ * traversals: a search for the first value matching a condition, which stops as soon as it is found, and the sum
+ * of the values within narrow ranges, where {@link TreeVisitor#range(int, int, java.util.function.IntPredicate)}
+ * skips every subtree outside the range.
+ */
+public class VisitorBenchmark {
+
+  private static final int KEYS = 1_000_000;
+  private static final int QUERIES = 1_000;
+  private static final int RANGE_WIDTH = 1_000;
+
+  private static long blackhole;
+
+  public static void main(String[] args) {
+    int[] keys = new int[KEYS];
+    for (int i = 0; i < KEYS; i++) {
+      keys[i] = i * 10;
+    }
+    AVLTree tree = AVLTree.bulkLoad(keys);
+    Node root = tree.getRoot();
+
+    Random random = new Random(42);
+    int[] lows = new int[QUERIES];
+    for (int i = 0; i < QUERIES; i++) {
+      lows[i] = random.nextInt(KEYS * 10 - RANGE_WIDTH);
+    }
+
+    System.out.println("\n=== first value divisible by 7, in-order, " + KEYS + " nodes (per query) ===");
+    BenchmarkSupport.report("traverse + scan of int[]", 1, BenchmarkSupport.bestOf(() -> {
+      for (int value : TreeTraverser.traverse(root, "inorder")) {
+        if (value % 7 == 0 && value > 0) {
+          sink(value);
+          break;
+        }
+      }
+    }));
+    BenchmarkSupport.report("traverse(root, order, IntPredicate)", 1, BenchmarkSupport.bestOf(() -> {
+      int[] found = new int[1];
+      TreeTraverser.traverse(root, "inorder", value -> {
+        if (value % 7 == 0 && value > 0) {
+          found[0] = value;
+          return false;
+        }
+        return true;
+      });
+      sink(found[0]);
+    }));
+
+    System.out.println("\n=== sum of " + QUERIES + " ranges of width " + RANGE_WIDTH + " among " + KEYS
+        + " nodes (per query) ===");
+    BenchmarkSupport.report("traverse + scan of int[]", QUERIES, BenchmarkSupport.bestOf(() -> {
+      for (int low : lows) {
+        long sum = 0;
+        for (int value : TreeTraverser.traverse(root, "inorder")) {
+          if (value >= low && value <= low + RANGE_WIDTH) {
+            sum += value;
+          }
+        }
+        sink(sum);
+      }
+    }));
+    BenchmarkSupport.report("visit with TreeVisitor.range", QUERIES, BenchmarkSupport.bestOf(() -> {
+      for (int low : lows) {
+        long[] sum = new long[1];
+        TreeTraverser.visit(root, "inorder", TreeVisitor.range(low, low + RANGE_WIDTH, value -> {
+          sum[0] += value;
+          return true;
+        }));
+        sink(sum[0]);
+      }
+    }));
+    BenchmarkSupport.report("AVLTree.range iterator", QUERIES, BenchmarkSupport.bestOf(() -> {
+      for (int low : lows) {
+        long sum = 0;
+        PrimitiveIterator.OfInt values = tree.range(low, low + RANGE_WIDTH);
+        while (values.hasNext()) {
+          sum += values.nextInt();
+        }
+        sink(sum);
+      }
+    }));
+  }
+
+  private static void sink(long value) {
+    blackhole ^= value;
+  }
+}
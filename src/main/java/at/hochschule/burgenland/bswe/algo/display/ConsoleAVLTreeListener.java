@@ -0,0 +1,40 @@
+package at.hochschule.burgenland.bswe.algo.display;
+
+import at.hochschule.burgenland.bswe.algo.model.AVLTreeListener;
+
+/**
+ * An {@link AVLTreeListener} that explains every rebalancing step on the console,
+ * which makes the rotations of an {@link at.hochschule.burgenland.bswe.algo.model.AVLTree} visible while learning.
+ */
+public class ConsoleAVLTreeListener implements AVLTreeListener {
+
+  @Override
+  public void onLeftLeft(int value) {
+    System.out.println("AVL Check: Left-Left rotation needed for " + value);
+  }
+
+  @Override
+  public void onRightRight(int value) {
+    System.out.println("AVL Check: Right-Right rotation needed for " + value);
+  }
+
+  @Override
+  public void onLeftRight(int value) {
+    System.out.println("AVL Check: Left-Right rotation needed for " + value);
+  }
+
+  @Override
+  public void onRightLeft(int value) {
+    System.out.println("AVL Check: Right-Left rotation needed for " + value);
+  }
+
+  @Override
+  public void onRotateLeft(int value) {
+    System.out.println("Left rotation around " + value);
+  }
+
+  @Override
+  public void onRotateRight(int value) {
+    System.out.println("Right rotation around " + value);
+  }
+}
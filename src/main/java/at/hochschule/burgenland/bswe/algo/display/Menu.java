@@ -3,10 +3,14 @@ package at.hochschule.burgenland.bswe.algo.display;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.PrimitiveIterator;
 import java.util.Scanner;
 
 import at.hochschule.burgenland.bswe.algo.model.AVLTree;
-import at.hochschule.burgenland.bswe.algo.model.Node;
+import at.hochschule.burgenland.bswe.algo.model.BalancedTree;
+import at.hochschule.burgenland.bswe.algo.model.RedBlackTree;
+import at.hochschule.burgenland.bswe.algo.model.TreeNode;
+import at.hochschule.burgenland.bswe.algo.model.WAVLTree;
 import at.hochschule.burgenland.bswe.algo.traversal.AVLTreeTraversal;
 import at.hochschule.burgenland.bswe.algo.traversal.TreeTraverser;
 
@@ -20,17 +24,33 @@ import at.hochschule.burgenland.bswe.algo.traversal.TreeTraverser;
 public class Menu {
 
   private final Scanner scanner;
-  private AVLTree tree;
+  private final BalancedTree tree;
 
   /**
    * Constructs a Menu instance, initializing the required components for the menu system.
    * This includes:
-   * - Creating a new instance of AVLTree to manage tree operations.
+   * - Creating a new pooled instance of AVLTree to manage tree operations, with a console listener
+   * that explains every rotation; its nodes are recycled when numbers are removed or the tree is cleared.
    * - Initializing a Scanner for input handling from standard input.
    * This constructor sets up the fundamental environment for the interactive menu.
    */
   public Menu() {
-    this.tree = new AVLTree();
+    this(AVLTree.pooled(new ConsoleAVLTreeListener()));
+  }
+
+  /**
+   * Constructs a Menu instance that manages the given tree, e.g. a {@link WAVLTree} or a {@link RedBlackTree}
+   * instead of the default AVL tree.
+   * Only an {@link AVLTree} with a console listener explains its rotations while numbers are inserted.
+   *
+   * @param tree the tree to manage; cannot be null
+   * @throws IllegalArgumentException if {@code tree} is null
+   */
+  public Menu(BalancedTree tree) {
+    if (tree == null) {
+      throw new IllegalArgumentException("Tree cannot be null");
+    }
+    this.tree = tree;
     this.scanner = new Scanner(System.in);
   }
 
@@ -208,7 +228,7 @@ public class Menu {
         int number = Integer.parseInt(input);
 
         // Check if the number already exists
-        if (treeContainsNumber(number)) {
+        if (tree.contains(number)) {
           System.out.println("Number " + number + " already exists in the tree. Skipping...");
           numbersRejected++;
         } else {
@@ -234,6 +254,7 @@ public class Menu {
    * The method performs the following steps:
    * - Prompts the user to input an array of integers. Only positive integers are permitted; negative inputs are rejected.
    * - Prompts the user to specify the traversal order as a string.
+   * - Asks whether each insertion step should be shown; if not, the tree is bulk-loaded silently.
    * - Calls the `traverse` method from the `AVLTreeTraversal` class, passing the collected inputs.
    * - Measures and logs the execution time and results of the method call.
    * - Handles and logs any exceptions that occur during the execution of the `traverse` method.
@@ -253,6 +274,7 @@ public class Menu {
     }
 
     String order = getTraversalOrder();
+    boolean showSteps = askShowInsertionSteps();
 
     System.out.println("\n=== EXECUTING TRAVERSE METHOD ===");
     System.out.println("Parameters:");
@@ -262,7 +284,7 @@ public class Menu {
 
     try {
       long startTime = System.currentTimeMillis();
-      int[] result = AVLTreeTraversal.traverse(numbers, order);
+      int[] result = AVLTreeTraversal.traverse(numbers, order, showSteps);
       long endTime = System.currentTimeMillis();
 
       System.out.println("\n=== METHOD EXECUTION COMPLETE ===");
@@ -341,12 +363,13 @@ public class Menu {
       return new int[0];
     }
 
-    // Remove duplicates while preserving order
+    // Remove duplicates while preserving order; the multiset counts each number in O(log n)
+    AVLTree occurrences = AVLTree.multiset();
     List<Integer> uniqueNumbers = new ArrayList<>();
     List<Integer> duplicateNumbers = new ArrayList<>();
 
     for (Integer num : numbersList) {
-      if (!uniqueNumbers.contains(num)) {
+      if (occurrences.add(num, 1) == 1) {
         uniqueNumbers.add(num);
       } else {
         duplicateNumbers.add(num);
@@ -404,10 +427,23 @@ public class Menu {
     }
   }
 
+  /**
+   * Asks the user whether every insertion step should be shown while the tree is built.
+   * Anything other than "no" or "n" (case-insensitively) keeps the step-by-step output.
+   *
+   * @return {@code true} if each insertion step should be shown, {@code false} to bulk-load the tree silently
+   */
+  private boolean askShowInsertionSteps() {
+    System.out.print("Show each insertion step? (yes/no): ");
+    String answer = scanner.nextLine().trim();
+    return !(answer.equalsIgnoreCase("no") || answer.equalsIgnoreCase("n"));
+  }
+
   /**
    * Prints the structure and balance information of the AVL tree.
    * This method displays a visual representation of the AVL tree, including
-   * balance information for each node. If the tree is empty, a message is printed
+   * balance information for each node of an AVL tree; other strategies only report their height, since their
+   * height differences may exceed 1. If the tree is empty, a message is printed
    * indicating that the tree is empty and prompting the user to add elements.
    * Precondition: The tree object must be initialized before calling this method.
    */
@@ -419,7 +455,13 @@ public class Menu {
     }
 
     TreePrinter.printTree(tree.getRoot());
-    TreePrinter.printBalanceInfo(tree.getRoot());
+    if (tree instanceof AVLTree) {
+      TreePrinter.printBalanceInfo(tree.getRoot());
+    } else {
+      // Only AVL trees bound every height difference by 1, so the AVL report would flag valid nodes as UNBALANCED
+      System.out.println("\nBalance factors are not shown: the subtrees of a " + tree.getClass().getSimpleName()
+          + " may legally differ by more than 1 in height (tree height: " + tree.height() + ").");
+    }
   }
 
   /**
@@ -451,8 +493,7 @@ public class Menu {
     String displayName = displayNames[choice - 1];
 
     System.out.println("\n=== " + displayName.toUpperCase() + " TRAVERSAL ===");
-    int[] result = TreeTraverser.traverse(tree.getRoot(), traversalType);
-    TreeTraverser.printTraversal(result, displayName);
+    TreeTraverser.printTraversal(TreeTraverser.iterator(tree.getRoot(), traversalType), displayName);
   }
 
   /**
@@ -480,16 +521,18 @@ public class Menu {
   /**
    * Displays detailed information about the tree structure.
    * Prints a summary of the tree's key attributes including its root value, total number of nodes,
-   * height, minimum and maximum values, and traversals (inorder and preorder).
+   * height, rotations so far, minimum, maximum and median values, and traversals (inorder and preorder).
    * If the tree is empty, a message indicating this will be displayed instead.
    * The displayed information includes:
    * - The root node's value.
    * - Total number of nodes in the tree.
    * - Height of the tree.
-   * - The minimum value present in the tree (based on inorder traversal).
-   * - The maximum value present in the tree (based on inorder traversal).
+   * - The number of rotations the tree has performed so far.
+   * - The minimum, maximum and median values present in the tree (order-statistic selection on an AVL tree,
+   *   otherwise read from one lazy inorder pass).
    * - Inorder traversal list (sorted order).
    * - Preorder traversal list.
+   * The traversals are streamed from lazy iterators, so no array of all values is built.
    */
   private void displayTreeInfo() {
     System.out.println("\n=== TREE INFORMATION ===");
@@ -498,33 +541,54 @@ public class Menu {
       return;
     }
 
-    Node root = tree.getRoot();
-    int[] inorder = TreeTraverser.traverse(root, "inorder");
-    int[] preorder = TreeTraverser.traverse(root, "preorder");
+    TreeNode root = tree.getRoot();
+    int minimum;
+    int maximum;
+    int median;
+    if (tree instanceof AVLTree) {
+      AVLTree avlTree = (AVLTree) tree;
+      minimum = avlTree.select(0);
+      maximum = avlTree.select(avlTree.size() - 1);
+      median = avlTree.median();
+    } else {
+      // WAVL and red-black nodes store no subtree sizes, so read the values from one lazy inorder pass
+      PrimitiveIterator.OfInt sorted = TreeTraverser.iterator(root, "inorder");
+      minimum = sorted.nextInt();
+      median = minimum;
+      for (int i = (tree.size() - 1) / 2; i > 0; i--) {
+        median = sorted.nextInt();
+      }
+      maximum = median;
+      while (sorted.hasNext()) {
+        maximum = sorted.nextInt();
+      }
+    }
+    System.out.println("Root value: " + root.getValue());
+    System.out.println("Total nodes: " + tree.size());
+    System.out.println("Tree height: " + tree.height());
+    System.out.println("Rotations so far: " + tree.getRotations());
+    System.out.println("Minimum value: " + minimum);
+    System.out.println("Maximum value: " + maximum);
+    System.out.println("Median value: " + median);
 
-    System.out.println("Root value: " + root.value);
-    System.out.println("Total nodes: " + inorder.length);
-    System.out.println("Tree height: " + getTreeHeight(root));
-    System.out.println("Minimum value: " + inorder[0]);
-    System.out.println("Maximum value: " + inorder[inorder.length - 1]);
     System.out.println("\nInorder traversal (sorted): ");
-    TreeTraverser.printTraversal(inorder, "Sorted");
+    TreeTraverser.printTraversal(TreeTraverser.iterator(root, "inorder"), "Sorted");
 
     System.out.println("\nPreorder traversal: ");
-    TreeTraverser.printTraversal(preorder, "Preorder");
+    TreeTraverser.printTraversal(TreeTraverser.iterator(root, "preorder"), "Preorder");
   }
 
   /**
    * Clears the current AVL tree after confirming with the user.
-   * This method prompts the user for confirmation before resetting the tree
-   * to a new, empty instance of an AVLTree. If the user confirms by entering
+   * This method prompts the user for confirmation before clearing the tree in constant time;
+   * the default pooled AVL tree returns all of its nodes to its node arena. If the user confirms by entering
    * "yes" or "y" (case-insensitively), the tree is cleared. Otherwise, the
    * operation is canceled, and the tree remains unchanged.
    * Preconditions:
    * - A Scanner instance must be defined and initialized before calling this method.
-   * - The 'tree' instance variable must be an instance of AVLTree.
+   * - The 'tree' instance variable must be initialized.
    * Postconditions:
-   * - If confirmed, the current tree is reset to an empty AVLTree instance.
+   * - If confirmed, the current tree is empty; its listener is kept.
    * - If not confirmed, the tree remains unchanged.
    */
   private void clearTree() {
@@ -532,7 +596,7 @@ public class Menu {
     String confirmation = scanner.nextLine().trim();
 
     if (confirmation.equalsIgnoreCase("yes") || confirmation.equalsIgnoreCase("y")) {
-      this.tree = new AVLTree();
+      tree.clear();
       System.out.println("Tree cleared successfully!");
     } else {
       System.out.println("Clear operation cancelled.");
@@ -551,33 +615,6 @@ public class Menu {
     System.out.println("============================================");
   }
 
-  /**
-   * Checks if the specified number exists within the binary tree.
-   *
-   * @param number the number to search for within the tree
-   * @return {@code true} if the tree contains the specified number, otherwise {@code false}
-   */
-  private boolean treeContainsNumber(int number) {
-    return checkIfNumberExists(tree.getRoot(), number);
-  }
-
-  /**
-   * Checks if a specific number exists in the binary tree starting from the given node.
-   *
-   * @param node   the root node of the binary tree to be searched
-   * @param number the number to search for in the binary tree
-   * @return true if the number exists in the binary tree, false otherwise
-   */
-  private boolean checkIfNumberExists(Node node, int number) {
-    if (node == null) {
-      return false;
-    }
-    if (node.value == number) {
-      return true;
-    }
-    return checkIfNumberExists(node.left, number) || checkIfNumberExists(node.right, number);
-  }
-
   /**
    * Checks if the tree is empty.
    *
@@ -586,19 +623,4 @@ public class Menu {
   private boolean treeIsEmpty() {
     return tree.getRoot() == null;
   }
-
-  /**
-   * Calculates the height of a binary tree starting from the given node.
-   * The height is determined as the number of edges on the longest path
-   * from the node to a leaf. If the tree is empty, the height is 0.
-   *
-   * @param node the root node of the binary tree for which the height is to be calculated
-   * @return the height of the binary tree, or 0 if the node is null
-   */
-  private int getTreeHeight(Node node) {
-    if (node == null) {
-      return 0;
-    }
-    return 1 + Math.max(getTreeHeight(node.left), getTreeHeight(node.right));
-  }
-}
\ No newline at end of file
+}
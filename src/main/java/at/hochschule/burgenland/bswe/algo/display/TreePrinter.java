@@ -3,7 +3,7 @@ package at.hochschule.burgenland.bswe.algo.display;
 import java.util.ArrayList;
 import java.util.List;
 
-import at.hochschule.burgenland.bswe.algo.model.Node;
+import at.hochschule.burgenland.bswe.algo.model.TreeNode;
 
 /**
  * Utility class for creating visual representations of binary trees in ASCII format.
@@ -17,14 +17,14 @@ public class TreePrinter {
    *
    * @param root the root node of the tree to be printed; may be null
    */
-  public static void printTree(Node root) {
+  public static void printTree(TreeNode root) {
     if (root == null) {
       System.out.println("Tree is empty");
       return;
     }
 
     int maxLevel = maxLevel(root);
-    List<Node> nodes = new ArrayList<>();
+    List<TreeNode> nodes = new ArrayList<>();
     nodes.add(root);
     printNodeInternal(nodes, 1, maxLevel);
   }
@@ -39,7 +39,7 @@ public class TreePrinter {
    * @param level    the current depth level being printed, starting from 1
    * @param maxLevel the maximum depth of the tree to determine spacing and structuring
    */
-  private static void printNodeInternal(List<Node> nodes, int level, int maxLevel) {
+  private static void printNodeInternal(List<TreeNode> nodes, int level, int maxLevel) {
     if (nodes.isEmpty() || isAllElementsNull(nodes)) {
       return;
     }
@@ -51,12 +51,12 @@ public class TreePrinter {
 
     printWhitespaces(firstSpaces);
 
-    List<Node> newNodes = new ArrayList<>();
-    for (Node node : nodes) {
+    List<TreeNode> newNodes = new ArrayList<>();
+    for (TreeNode node : nodes) {
       if (node != null) {
-        System.out.print(node.value);
-        newNodes.add(node.left);
-        newNodes.add(node.right);
+        System.out.print(node.getValue());
+        newNodes.add(node.getLeft());
+        newNodes.add(node.getRight());
       } else {
         System.out.print(" ");
         newNodes.add(null);
@@ -68,7 +68,7 @@ public class TreePrinter {
 
     // print the connecting '/' and '\' lines
     for (int i = 1; i <= edgeLines; i++) {
-      for (Node node : nodes) {
+      for (TreeNode node : nodes) {
         printWhitespaces(firstSpaces - i);
 
         if (node == null) {
@@ -78,7 +78,7 @@ public class TreePrinter {
         }
 
         // left side '/'
-        if (node.left != null) {
+        if (node.getLeft() != null) {
           System.out.print("/");
         } else {
           System.out.print(" ");
@@ -88,7 +88,7 @@ public class TreePrinter {
         printWhitespaces(i + i - 1);
 
         // right side '\'
-        if (node.right != null) {
+        if (node.getRight() != null) {
           System.out.print("\\");
         } else {
           System.out.print(" ");
@@ -118,11 +118,11 @@ public class TreePrinter {
    * @param node the root node of the subtree; may be null
    * @return the number of levels in the subtree; 0 for a null node
    */
-  private static int maxLevel(Node node) {
+  private static int maxLevel(TreeNode node) {
     if (node == null) {
       return 0;
     }
-    return 1 + Math.max(maxLevel(node.left), maxLevel(node.right));
+    return 1 + Math.max(maxLevel(node.getLeft()), maxLevel(node.getRight()));
   }
 
   /**
@@ -131,7 +131,7 @@ public class TreePrinter {
    * @param list the list to check
    * @return true if every element is null; false otherwise
    */
-  private static boolean isAllElementsNull(List<Node> list) {
+  private static boolean isAllElementsNull(List<TreeNode> list) {
     for (Object object : list) {
       if (object != null) {
         return false;
@@ -148,7 +148,7 @@ public class TreePrinter {
    *
    * @param root the root node of the tree for which balance information is printed; may be null
    */
-  public static void printBalanceInfo(Node root) {
+  public static void printBalanceInfo(TreeNode root) {
     System.out.println("\n=== Balance Information ===");
     printBalanceRec(root);
   }
@@ -162,13 +162,13 @@ public class TreePrinter {
    *
    * @param node the current node for which balance information is printed; may be null
    */
-  private static void printBalanceRec(Node node) {
+  private static void printBalanceRec(TreeNode node) {
     if (node != null) {
       int balance = getBalance(node);
       String balanceStatus = Math.abs(balance) <= 1 ? "BALANCED" : "UNBALANCED";
-      System.out.println("Node " + node.value + ": Balance = " + balance + " (" + balanceStatus + ")");
-      printBalanceRec(node.left);
-      printBalanceRec(node.right);
+      System.out.println("Node " + node.getValue() + ": Balance = " + balance + " (" + balanceStatus + ")");
+      printBalanceRec(node.getLeft());
+      printBalanceRec(node.getRight());
     }
   }
 
@@ -181,10 +181,10 @@ public class TreePrinter {
    * @param node the binary tree node for which to calculate the balance factor; may be null
    * @return the balance factor of the node; 0 if the node is null
    */
-  private static int getBalance(Node node) {
+  private static int getBalance(TreeNode node) {
     if (node == null) {
       return 0;
     }
-    return maxLevel(node.left) - maxLevel(node.right);
+    return maxLevel(node.getLeft()) - maxLevel(node.getRight());
   }
 }
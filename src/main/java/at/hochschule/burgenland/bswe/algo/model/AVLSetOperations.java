@@ -0,0 +1,425 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import lombok.Getter;
+
+/**
+ * Join-based algorithms on {@link AVLTree}s: {@code join}, {@code split} and the set operations
+ * {@code union}, {@code intersection} and {@code difference} built on top of them.
+ * The set operations split one tree by the root of the other and recurse on both halves independently,
+ * so the two recursive calls run as parallel fork-join tasks. For trees of sizes {@code m <= n} they need
+ * {@code O(m log(n / m + 1))} work and {@code O(log m log n)} span, instead of the {@code O(m log n)}
+ * sequential work of re-inserting every key of one tree into the other.
+ *
+ * <p>All operations reuse the nodes of their inputs instead of copying them: the input trees are emptied
+ * and every node ends up in exactly one result (nodes of values that are dropped are discarded).
+ * The results are valid AVL trees with up-to-date heights and sizes. No listener events are reported.
+ * Multisets are not supported, because the operations do not combine occurrence counts.
+ */
+public final class AVLSetOperations {
+  /**
+   * Up to this size of the smaller input, the set operations recurse sequentially, because forking a task
+   * costs more than processing such small trees.
+   */
+  private static final int SEQUENTIAL_THRESHOLD = 4096;
+
+  private AVLSetOperations() {
+  }
+
+  /**
+   * Joins two trees and a key that lies between them into one AVL tree in {@code O(|h(left) - h(right)| + 1)}:
+   * the shorter tree is attached at the right height along the spine of the taller one and rebalanced
+   * on the way back up. Both input trees are emptied.
+   *
+   * @param left  a tree whose values are all smaller than {@code key}; cannot be null
+   * @param key   the value to insert between the two trees
+   * @param right a tree whose values are all greater than {@code key}; cannot be null
+   * @return a new tree containing the values of both trees and {@code key}
+   * @throws IllegalArgumentException if a tree is null or a multiset, both are the same tree, or the values
+   *                                  are not ordered around {@code key}
+   */
+  public static AVLTree join(AVLTree left, int key, AVLTree right) {
+    requireDistinct(left, right);
+    Node leftRoot = left.getRoot();
+    Node rightRoot = right.getRoot();
+    if (leftRoot != null && max(leftRoot) >= key) {
+      throw new IllegalArgumentException("All values of the left tree must be smaller than " + key);
+    }
+    if (rightRoot != null && min(rightRoot) <= key) {
+      throw new IllegalArgumentException("All values of the right tree must be greater than " + key);
+    }
+    return new AVLTree(join(left.detachRoot(), new Node(key), right.detachRoot()));
+  }
+
+  /**
+   * Splits a tree by a key in {@code O(log n)} into the values smaller than the key and the values greater than it.
+   * The input tree is emptied.
+   *
+   * @param tree the tree to split; cannot be null
+   * @param key  the value to split by; does not have to be present
+   * @return the two halves and whether {@code key} was present
+   * @throws IllegalArgumentException if {@code tree} is null or a multiset
+   */
+  public static SplitResult split(AVLTree tree, int key) {
+    if (tree == null) {
+      throw new IllegalArgumentException("Tree cannot be null");
+    }
+    if (tree.isMultiset()) {
+      throw new IllegalArgumentException("Join-based operations are not supported for multisets");
+    }
+
+    Split split = split(tree.detachRoot(), key);
+    return new SplitResult(new AVLTree(split.left), split.found, new AVLTree(split.right));
+  }
+
+  /**
+   * Computes the union of two trees in parallel. Both input trees are emptied.
+   *
+   * @param first  the first tree; cannot be null
+   * @param second the second tree; cannot be null
+   * @return a new tree containing every value present in either tree
+   * @throws IllegalArgumentException if a tree is null or a multiset, or both are the same tree
+   */
+  public static AVLTree union(AVLTree first, AVLTree second) {
+    return apply(Operation.UNION, first, second);
+  }
+
+  /**
+   * Computes the intersection of two trees in parallel. Both input trees are emptied.
+   *
+   * @param first  the first tree; cannot be null
+   * @param second the second tree; cannot be null
+   * @return a new tree containing every value present in both trees
+   * @throws IllegalArgumentException if a tree is null or a multiset, or both are the same tree
+   */
+  public static AVLTree intersection(AVLTree first, AVLTree second) {
+    return apply(Operation.INTERSECTION, first, second);
+  }
+
+  /**
+   * Computes the difference of two trees in parallel. Both input trees are emptied.
+   *
+   * @param first  the tree to remove values from; cannot be null
+   * @param second the tree of values to remove; cannot be null
+   * @return a new tree containing every value of {@code first} that is not present in {@code second}
+   * @throws IllegalArgumentException if a tree is null or a multiset, or both are the same tree
+   */
+  public static AVLTree difference(AVLTree first, AVLTree second) {
+    return apply(Operation.DIFFERENCE, first, second);
+  }
+
+  /**
+   * The result of {@link #split(AVLTree, int)}.
+   */
+  @Getter
+  public static final class SplitResult {
+    /**
+     * The values smaller than the split key.
+     */
+    private final AVLTree left;
+    /**
+     * Whether the split key was present in the split tree.
+     */
+    private final boolean found;
+    /**
+     * The values greater than the split key.
+     */
+    private final AVLTree right;
+
+    private SplitResult(AVLTree left, boolean found, AVLTree right) {
+      this.left = left;
+      this.found = found;
+      this.right = right;
+    }
+  }
+
+  private enum Operation {
+    UNION, INTERSECTION, DIFFERENCE
+  }
+
+  /**
+   * The two halves of a split subtree.
+   */
+  private static final class Split {
+    private final Node left;
+    private final boolean found;
+    private final Node right;
+
+    private Split(Node left, boolean found, Node right) {
+      this.left = left;
+      this.found = found;
+      this.right = right;
+    }
+  }
+
+  /**
+   * Runs one set operation on two subtrees as a fork-join task.
+   */
+  private static final class SetOperationTask extends RecursiveTask<Node> {
+    private static final long serialVersionUID = 1L;
+
+    private final Operation operation;
+    private final Node first;
+    private final Node second;
+
+    private SetOperationTask(Operation operation, Node first, Node second) {
+      this.operation = operation;
+      this.first = first;
+      this.second = second;
+    }
+
+    @Override
+    protected Node compute() {
+      return apply(operation, first, second);
+    }
+  }
+
+  private static AVLTree apply(Operation operation, AVLTree first, AVLTree second) {
+    requireDistinct(first, second);
+    Node firstRoot = first.detachRoot();
+    Node secondRoot = second.detachRoot();
+    SetOperationTask task = new SetOperationTask(operation, firstRoot, secondRoot);
+    Node result = ForkJoinTask.inForkJoinPool() ? task.invoke() : ForkJoinPool.commonPool().invoke(task);
+    return new AVLTree(result);
+  }
+
+  private static void requireDistinct(AVLTree first, AVLTree second) {
+    if (first == null || second == null) {
+      throw new IllegalArgumentException("Trees cannot be null");
+    }
+    if (first == second) {
+      throw new IllegalArgumentException("Both arguments must be different trees");
+    }
+    if (first.isMultiset() || second.isMultiset()) {
+      throw new IllegalArgumentException("Join-based operations are not supported for multisets");
+    }
+  }
+
+  private static Node apply(Operation operation, Node first, Node second) {
+    switch (operation) {
+      case UNION:
+        return union(first, second);
+      case INTERSECTION:
+        return intersection(first, second);
+      default:
+        return difference(first, second);
+    }
+  }
+
+  /**
+   * Applies an operation to two pairs of subtrees, forking the first pair if there is enough work to share.
+   * The work is bounded by the smaller of the two inputs, so a tiny tree merged into a huge one is
+   * processed sequentially.
+   *
+   * @return the results of both pairs, in order
+   */
+  private static Node[] applyBoth(Operation operation, Node first1, Node second1, Node first2, Node second2) {
+    if (Math.min(size(first1) + size(first2), size(second1) + size(second2)) <= SEQUENTIAL_THRESHOLD) {
+      return new Node[] {apply(operation, first1, second1), apply(operation, first2, second2)};
+    }
+
+    SetOperationTask task = new SetOperationTask(operation, first1, second1);
+    task.fork();
+    Node result2 = apply(operation, first2, second2);
+    return new Node[] {task.join(), result2};
+  }
+
+  private static Node union(Node first, Node second) {
+    if (first == null) {
+      return second;
+    }
+    if (second == null) {
+      return first;
+    }
+
+    Split split = split(second, first.value);
+    Node[] results = applyBoth(Operation.UNION, first.left, split.left, first.right, split.right);
+    return join(results[0], first, results[1]);
+  }
+
+  private static Node intersection(Node first, Node second) {
+    if (first == null || second == null) {
+      return null;
+    }
+
+    Split split = split(second, first.value);
+    Node[] results = applyBoth(Operation.INTERSECTION, first.left, split.left, first.right, split.right);
+    return split.found ? join(results[0], first, results[1]) : join2(results[0], results[1]);
+  }
+
+  private static Node difference(Node first, Node second) {
+    if (first == null || second == null) {
+      return first;
+    }
+
+    Split split = split(first, second.value);
+    Node[] results = applyBoth(Operation.DIFFERENCE, split.left, second.left, split.right, second.right);
+    return join2(results[0], results[1]);
+  }
+
+  /**
+   * Splits a subtree by a key, reusing every node except the one holding the key (if present).
+   *
+   * @param node the root of the subtree; may be null
+   * @param key  the value to split by
+   * @return the subtrees of the smaller and greater values
+   */
+  private static Split split(Node node, int key) {
+    if (node == null) {
+      return new Split(null, false, null);
+    }
+
+    if (key < node.value) {
+      Split split = split(node.left, key);
+      return new Split(split.left, split.found, join(split.right, node, node.right));
+    } else if (key > node.value) {
+      Split split = split(node.right, key);
+      return new Split(join(node.left, node, split.left), split.found, split.right);
+    }
+    return new Split(node.left, true, node.right);
+  }
+
+  /**
+   * Joins two subtrees and a middle node whose value lies between them. The middle node's
+   * children are overwritten.
+   *
+   * @param left   the subtree of smaller values; may be null
+   * @param middle the node that becomes the connection point
+   * @param right  the subtree of greater values; may be null
+   * @return the root of the joined, balanced subtree
+   */
+  private static Node join(Node left, Node middle, Node right) {
+    if (height(left) > height(right) + 1) {
+      return joinRight(left, middle, right);
+    }
+    if (height(right) > height(left) + 1) {
+      return joinLeft(left, middle, right);
+    }
+    middle.left = left;
+    middle.right = right;
+    update(middle);
+    return middle;
+  }
+
+  /**
+   * Descends the right spine of the taller left subtree until the height fits the right subtree,
+   * attaches the middle node there and rebalances on the way back up.
+   */
+  private static Node joinRight(Node left, Node middle, Node right) {
+    if (height(left.right) <= height(right) + 1) {
+      middle.left = left.right;
+      middle.right = right;
+      update(middle);
+      if (height(middle) <= height(left.left) + 1) {
+        left.right = middle;
+        update(left);
+        return left;
+      }
+      left.right = rotateRight(middle);
+      update(left);
+      return rotateLeft(left);
+    }
+
+    left.right = joinRight(left.right, middle, right);
+    update(left);
+    return height(left.right) <= height(left.left) + 1 ? left : rotateLeft(left);
+  }
+
+  /**
+   * Mirror image of {@link #joinRight(Node, Node, Node)} for a taller right subtree.
+   */
+  private static Node joinLeft(Node left, Node middle, Node right) {
+    if (height(right.left) <= height(left) + 1) {
+      middle.left = left;
+      middle.right = right.left;
+      update(middle);
+      if (height(middle) <= height(right.right) + 1) {
+        right.left = middle;
+        update(right);
+        return right;
+      }
+      right.left = rotateLeft(middle);
+      update(right);
+      return rotateRight(right);
+    }
+
+    right.left = joinLeft(left, middle, right.left);
+    update(right);
+    return height(right.left) <= height(right.right) + 1 ? right : rotateRight(right);
+  }
+
+  /**
+   * Joins two subtrees without a middle key by using the maximum of the left subtree as the middle node.
+   */
+  private static Node join2(Node left, Node right) {
+    if (left == null) {
+      return right;
+    }
+
+    Node[] lastAndRest = splitLast(left);
+    return join(lastAndRest[1], lastAndRest[0], right);
+  }
+
+  /**
+   * Detaches the node with the largest value from a subtree.
+   *
+   * @return the detached node and the root of the remaining subtree, in that order
+   */
+  private static Node[] splitLast(Node node) {
+    if (node.right == null) {
+      return new Node[] {node, node.left};
+    }
+
+    Node[] lastAndRest = splitLast(node.right);
+    lastAndRest[1] = join(node.left, node, lastAndRest[1]);
+    return lastAndRest;
+  }
+
+  private static Node rotateRight(Node y) {
+    Node x = y.left;
+    y.left = x.right;
+    x.right = y;
+    update(y);
+    update(x);
+    return x;
+  }
+
+  private static Node rotateLeft(Node x) {
+    Node y = x.right;
+    x.right = y.left;
+    y.left = x;
+    update(x);
+    update(y);
+    return y;
+  }
+
+  private static int min(Node node) {
+    while (node.left != null) {
+      node = node.left;
+    }
+    return node.value;
+  }
+
+  private static int max(Node node) {
+    while (node.right != null) {
+      node = node.right;
+    }
+    return node.value;
+  }
+
+  private static void update(Node node) {
+    node.height = 1 + Math.max(height(node.left), height(node.right));
+    node.size = 1 + size(node.left) + size(node.right);
+  }
+
+  private static int height(Node node) {
+    return node == null ? 0 : node.height;
+  }
+
+  private static int size(Node node) {
+    return node == null ? 0 : node.size;
+  }
+}
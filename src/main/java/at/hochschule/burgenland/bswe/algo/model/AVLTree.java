@@ -1,20 +1,826 @@
 package at.hochschule.burgenland.bswe.algo.model;
 
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+
+import at.hochschule.burgenland.bswe.algo.traversal.TreeTraverser;
+
+import lombok.AccessLevel;
 import lombok.Getter;
 
 @Getter
-public class AVLTree {
+public class AVLTree implements BalancedTree {
+  /**
+   * Upper bound for the height of an AVL tree holding at most {@code 2^32} distinct int keys
+   * (the AVL height bound is about {@code 1.44 * log2(n)}), used to size the insertion path stack.
+   */
+  private static final int MAX_HEIGHT = 64;
+
+  /**
+   * Default number of nodes created at once by the arena of a pooled tree, see {@link #pooled()}.
+   */
+  private static final int DEFAULT_NODES_PER_CHUNK = 1024;
+
   private Node root;
 
+  /**
+   * Reusable stack of the nodes visited by {@link #add(int)} and {@link #remove(int)} on the way down,
+   * so that the iterative insertion and removal do not allocate anything except the new node.
+   */
+  @Getter(AccessLevel.NONE)
+  private final Node[] path = new Node[MAX_HEIGHT];
+
+  /**
+   * Exclusive lower and upper bounds of the key range of every subtree on the path stack.
+   */
+  @Getter(AccessLevel.NONE)
+  private final long[] lowerBounds = new long[MAX_HEIGHT];
+  @Getter(AccessLevel.NONE)
+  private final long[] upperBounds = new long[MAX_HEIGHT];
+
+  /**
+   * The number of entries on the path stack that still form a path from the root after the last
+   * {@link #add(int)} (the finger), or 0 if another modification has invalidated it.
+   */
+  @Getter(AccessLevel.NONE)
+  private int fingerDepth;
+
+  private AVLTreeListener listener;
+
+  /**
+   * Whether this tree counts repeated values instead of ignoring them, see {@link #multiset()}.
+   */
+  private final boolean multiset;
+
+  /**
+   * The pool that provides and recycles the nodes of a pooled tree, or null if nodes are allocated normally.
+   */
+  @Getter(AccessLevel.NONE)
+  private NodeArena arena;
+
+  /**
+   * The number of single rotations performed so far, see {@link #getRotations()}.
+   */
+  private long rotations;
+
+  /**
+   * Creates an empty AVL tree that reports no events.
+   */
+  public AVLTree() {
+    this(AVLTreeListener.NONE);
+  }
+
+  /**
+   * Creates an empty AVL tree that reports inserts, rotations and height changes to the given listener.
+   *
+   * @param listener the listener to notify; cannot be null, use {@link AVLTreeListener#NONE} for no listener
+   * @throws IllegalArgumentException if {@code listener} is null
+   */
+  public AVLTree(AVLTreeListener listener) {
+    this(listener, false, null);
+  }
+
+  private AVLTree(AVLTreeListener listener, boolean multiset, NodeArena arena) {
+    setListener(listener);
+    this.multiset = multiset;
+    this.arena = arena;
+  }
+
+  /**
+   * Creates an empty AVL multiset that reports no events, see {@link #multiset(AVLTreeListener)}.
+   *
+   * @return a new, empty multiset
+   */
+  public static AVLTree multiset() {
+    return multiset(AVLTreeListener.NONE);
+  }
+
+  /**
+   * Creates an empty AVL multiset: every node ({@link CountedNode}) records how often its value occurs,
+   * so inserting a value that is already present increments its count instead of being ignored.
+   * The tree shape, {@link #size()}, {@link #rank(int)} and {@link #select(int)} refer to the distinct values;
+   * {@link #count(int)} returns the occurrences of a single value.
+   *
+   * @param listener the listener to notify; cannot be null, use {@link AVLTreeListener#NONE} for no listener
+   * @return a new, empty multiset
+   * @throws IllegalArgumentException if {@code listener} is null
+   */
+  public static AVLTree multiset(AVLTreeListener listener) {
+    return new AVLTree(listener, true, null);
+  }
+
+  /**
+   * Creates an empty pooled AVL tree that reports no events, see {@link #pooled(AVLTreeListener, int)}.
+   *
+   * @return a new, empty pooled tree
+   */
+  public static AVLTree pooled() {
+    return pooled(AVLTreeListener.NONE);
+  }
+
+  /**
+   * Creates an empty pooled AVL tree with chunks of 1024 nodes, see {@link #pooled(AVLTreeListener, int)}.
+   *
+   * @param listener the listener to notify; cannot be null, use {@link AVLTreeListener#NONE} for no listener
+   * @return a new, empty pooled tree
+   * @throws IllegalArgumentException if {@code listener} is null
+   */
+  public static AVLTree pooled(AVLTreeListener listener) {
+    return pooled(listener, DEFAULT_NODES_PER_CHUNK);
+  }
+
+  /**
+   * Creates an empty AVL tree whose nodes come from its own node arena: nodes are created in chunks,
+   * removed nodes are recycled for later insertions and {@link #clear()} returns all of them to the arena
+   * in {@code O(1)}. Under sustained insert/remove churn, such a tree stops allocating once the arena covers
+   * the peak number of values. Because nodes are reused, a {@link Node} obtained from {@link #find(int)} or
+   * {@link #getRoot()} must not be used after its value has been removed or the tree has been cleared.
+   *
+   * @param listener      the listener to notify; cannot be null, use {@link AVLTreeListener#NONE} for no listener
+   * @param nodesPerChunk the number of nodes created at once; must be a power of two between 1 and {@code 2^20}
+   * @return a new, empty pooled tree
+   * @throws IllegalArgumentException if {@code listener} is null or {@code nodesPerChunk} is not a power of two
+   *                                  in the allowed range
+   */
+  public static AVLTree pooled(AVLTreeListener listener, int nodesPerChunk) {
+    return new AVLTree(listener, false, new NodeArena(nodesPerChunk));
+  }
+
+  /**
+   * Creates a tree that reports no events around an existing subtree, which must be a valid AVL tree
+   * with up-to-date heights and sizes. Used by {@link AVLSetOperations} to wrap its results.
+   *
+   * @param root the root of the subtree; may be null
+   */
+  AVLTree(Node root) {
+    this(AVLTreeListener.NONE);
+    this.root = root;
+  }
+
+  /**
+   * Removes all nodes from this tree and hands them over to the caller, leaving this tree empty.
+   * Used by {@link AVLSetOperations}, which reuses the nodes of its input trees.
+   *
+   * @return the former root, or null if the tree was empty
+   */
+  Node detachRoot() {
+    Node detached = root;
+    root = null;
+    fingerDepth = 0;
+    if (arena != null) {
+      // The detached nodes now belong to the caller and must never be handed out again
+      arena = new NodeArena(arena.nodesPerChunk());
+    }
+    return detached;
+  }
+
+  /**
+   * Replaces the listener that is notified about inserts, rotations and height changes.
+   *
+   * @param listener the listener to notify; cannot be null, use {@link AVLTreeListener#NONE} for no listener
+   * @throws IllegalArgumentException if {@code listener} is null
+   */
+  public void setListener(AVLTreeListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener cannot be null");
+    }
+    this.listener = listener;
+  }
+
   /**
    * Inserts a value into the AVL tree, maintaining the AVL balance properties.
    *
    * @param value the integer value to insert
+   * @throws ArithmeticException if the count of a value in a multiset would exceed {@link Integer#MAX_VALUE}
    */
+  @Override
   public void insert(int value) {
+    fingerDepth = 0;
     root = insertRec(root, value);
   }
 
+  /**
+   * Inserts a value into the AVL tree without recursion, see {@link #put(int)}. In a multiset, a value that is
+   * already present only has its count incremented.
+   *
+   * @param value the integer value to insert
+   * @return {@code true} if the value was inserted or counted, {@code false} if it was already present in a set
+   * @throws ArithmeticException if the count of a value in a multiset would exceed {@link Integer#MAX_VALUE}
+   */
+  @Override
+  public boolean add(int value) {
+    int size = size();
+    Node node = put(value);
+    if (size() != size) {
+      return true;
+    }
+    if (multiset) {
+      CountedNode counted = (CountedNode) node;
+      counted.count = Math.addExact(counted.count, 1);
+      return true;
+    }
+    return false; // Duplicates not allowed
+  }
+
+  /**
+   * Searches the node holding a value and inserts it if absent, in a single descent without recursion.
+   * The method walks down iteratively while recording the visited nodes in a fixed-size path stack,
+   * increments their subtree sizes and then rebalances on the way back up. It stops as soon as a subtree's height does not change
+   * (or after the single rebalancing rotation an insertion may need), since no ancestor can be affected then.
+   * Apart from the new node, nothing is allocated. A value that is already present is left unchanged, also in a
+   * multiset, so that callers like {@link #add(int)} and {@link AVLTreeMap} can update the node they get back.
+   *
+   * <p>The descent does not necessarily start at the root: the path of the previous insertion is kept as a finger,
+   * together with the key range of every subtree on it. The descent starts at the deepest of these subtrees
+   * whose range contains the value, so for increasing or nearly sorted keys it only needs a few comparisons
+   * near the bottom of the tree. The subtree sizes of all ancestors are still incremented.
+   *
+   * <p>{@link #size()} grows by one exactly when a new node was created.
+   *
+   * @param value the integer value to search for and insert if absent
+   * @return the node holding the value: the existing one, or the newly created one
+   */
+  Node put(int value) {
+    if (root == null) {
+      root = newNode(value);
+      listener.onInsert(value);
+      return root;
+    }
+
+    Node[] path = this.path;
+    long[] lowerBounds = this.lowerBounds;
+    long[] upperBounds = this.upperBounds;
+    // Climb the finger up to the deepest subtree whose key range contains the value
+    int depth = fingerDepth;
+    while (depth > 0 && (value <= lowerBounds[depth - 1] || value >= upperBounds[depth - 1])) {
+      depth--;
+    }
+    Node node;
+    if (depth == 0) {
+      node = root;
+      lowerBounds[0] = Long.MIN_VALUE;
+      upperBounds[0] = Long.MAX_VALUE;
+    } else {
+      node = path[--depth];
+    }
+
+    Node created;
+    while (true) {
+      path[depth] = node;
+      long lower = lowerBounds[depth];
+      long upper = upperBounds[depth];
+      depth++;
+      if (value < node.value) {
+        lowerBounds[depth] = lower;
+        upperBounds[depth] = node.value;
+        if (node.left == null) {
+          node.left = created = newNode(value);
+          break;
+        }
+        node = node.left;
+      } else if (value > node.value) {
+        lowerBounds[depth] = node.value;
+        upperBounds[depth] = upper;
+        if (node.right == null) {
+          node.right = created = newNode(value);
+          break;
+        }
+        node = node.right;
+      } else {
+        fingerDepth = depth;
+        return node;
+      }
+    }
+    listener.onInsert(value);
+    for (int i = 0; i < depth; i++) {
+      path[i].size++;
+    }
+    path[depth] = created;
+    fingerDepth = depth + 1;
+
+    for (int i = depth - 1; i >= 0; i--) {
+      node = path[i];
+      int leftHeight = height(node.left);
+      int rightHeight = height(node.right);
+      int balance = leftHeight - rightHeight;
+
+      Node subtree;
+      if (balance > 1) {
+        if (value < node.left.value) {
+          listener.onLeftLeft(node.value);
+        } else {
+          listener.onLeftRight(node.value);
+          node.left = rotateLeft(node.left);
+        }
+        subtree = rotateRight(node);
+      } else if (balance < -1) {
+        if (value > node.right.value) {
+          listener.onRightRight(node.value);
+        } else {
+          listener.onRightLeft(node.value);
+          node.right = rotateRight(node.right);
+        }
+        subtree = rotateLeft(node);
+      } else {
+        int newHeight = 1 + Math.max(leftHeight, rightHeight);
+        if (node.height == newHeight) {
+          break;
+        }
+        listener.onHeightChange(node.value, node.height, newHeight);
+        node.height = newHeight;
+        continue;
+      }
+
+      // A rotation restores the subtree's height from before the insertion, so the ancestors are unaffected.
+      // The rotated subtree covers the same key range, but the finger below it is no longer a path.
+      replaceChild(i, node, subtree);
+      path[i] = subtree;
+      fingerDepth = i + 1;
+      break;
+    }
+    return created;
+  }
+
+  /**
+   * Removes a value from the AVL tree, maintaining the AVL balance properties.
+   * A node with two children takes over the value of its in-order successor, which is unlinked instead.
+   * The affected path is then rebalanced bottom-up with the same rotations as used for insertion;
+   * unlike an insertion, a removal may need a rotation on every level, so rebalancing only stops
+   * once a subtree's height no longer changes. In a multiset, all occurrences of the value are removed;
+   * see {@link #removeOne(int)} to remove a single occurrence. A pooled tree recycles the unlinked node.
+   *
+   * @param value the integer value to remove
+   * @return {@code true} if the value was removed, {@code false} if it was not present
+   */
+  @Override
+  public boolean remove(int value) {
+    fingerDepth = 0;
+    Node[] path = this.path;
+    int depth = 0;
+    Node node = root;
+    while (node != null && node.value != value) {
+      path[depth++] = node;
+      node = value < node.value ? node.left : node.right;
+    }
+    if (node == null) {
+      return false;
+    }
+
+    if (node.left != null && node.right != null) {
+      path[depth++] = node;
+      Node successor = node.right;
+      while (successor.left != null) {
+        path[depth++] = successor;
+        successor = successor.left;
+      }
+      copyEntry(successor, node);
+      node = successor;
+    }
+
+    for (int i = 0; i < depth; i++) {
+      path[i].size--;
+    }
+    replaceChild(depth, node, node.left != null ? node.left : node.right);
+    if (arena != null) {
+      arena.release(node);
+    }
+    listener.onRemove(value);
+
+    for (int i = depth - 1; i >= 0; i--) {
+      node = path[i];
+      int oldHeight = node.height;
+      int balance = getBalance(node);
+
+      Node subtree = node;
+      if (balance > 1) {
+        if (getBalance(node.left) >= 0) {
+          listener.onLeftLeft(node.value);
+        } else {
+          listener.onLeftRight(node.value);
+          node.left = rotateLeft(node.left);
+        }
+        subtree = rotateRight(node);
+        replaceChild(i, node, subtree);
+      } else if (balance < -1) {
+        if (getBalance(node.right) <= 0) {
+          listener.onRightRight(node.value);
+        } else {
+          listener.onRightLeft(node.value);
+          node.right = rotateRight(node.right);
+        }
+        subtree = rotateLeft(node);
+        replaceChild(i, node, subtree);
+      } else {
+        update(node);
+      }
+
+      if (subtree.height == oldHeight) {
+        break;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks whether the AVL tree contains a value, see {@link #find(int)}.
+   *
+   * @param value the integer value to search for
+   * @return {@code true} if the value is present, otherwise {@code false}
+   */
+  @Override
+  public boolean contains(int value) {
+    return find(value) != null;
+  }
+
+  /**
+   * Searches the node holding a value by descending iteratively along the BST ordering,
+   * which visits at most one node per level, i.e. {@code O(log n)} nodes.
+   *
+   * @param value the integer value to search for
+   * @return the node holding the value, or null if the value is not present
+   */
+  public Node find(int value) {
+    Node node = root;
+    while (node != null) {
+      if (value < node.value) {
+        node = node.left;
+      } else if (value > node.value) {
+        node = node.right;
+      } else {
+        return node;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the number of values stored in the AVL tree, read from the root's subtree size in {@code O(1)}.
+   *
+   * @return the number of values
+   */
+  @Override
+  public int size() {
+    return size(root);
+  }
+
+  /**
+   * Counts the values that are smaller than the given value in {@code O(log n)}, using the subtree sizes
+   * along a single root-to-leaf path. The value itself does not have to be present.
+   *
+   * @param value the value to rank
+   * @return the number of stored values smaller than {@code value}
+   */
+  public int rank(int value) {
+    int rank = 0;
+    Node node = root;
+    while (node != null) {
+      if (value <= node.value) {
+        node = node.left;
+      } else {
+        rank += size(node.left) + 1;
+        node = node.right;
+      }
+    }
+    return rank;
+  }
+
+  /**
+   * Returns the value at the given position of the sorted sequence of stored values in {@code O(log n)}.
+   *
+   * @param k the zero-based position; {@code select(0)} is the minimum and {@code select(size() - 1)} the maximum
+   * @return the k-th smallest value
+   * @throws IllegalArgumentException if {@code k} is negative or not smaller than {@link #size()}
+   */
+  public int select(int k) {
+    if (k < 0 || k >= size()) {
+      throw new IllegalArgumentException("Position " + k + " is out of range for a tree of size " + size());
+    }
+
+    Node node = root;
+    while (true) {
+      int leftSize = size(node.left);
+      if (k < leftSize) {
+        node = node.left;
+      } else if (k > leftSize) {
+        k -= leftSize + 1;
+        node = node.right;
+      } else {
+        return node.value;
+      }
+    }
+  }
+
+  /**
+   * Returns a lazy iterator over the stored values {@code v} with {@code low <= v <= high} in ascending order,
+   * see {@link TreeTraverser#range(TreeNode, int, int)}. The tree must not be modified during the iteration.
+   *
+   * @param low  the smallest value to return (inclusive)
+   * @param high the largest value to return (inclusive)
+   * @return an iterator visiting only the {@code O(log n + k)} nodes needed for the {@code k} matching values
+   */
+  public PrimitiveIterator.OfInt range(int low, int high) {
+    return TreeTraverser.range(root, low, high);
+  }
+
+  /**
+   * Counts the stored values {@code v} with {@code low <= v <= high} in {@code O(log n)} using {@link #rank(int)},
+   * without visiting the values in between.
+   *
+   * @param low  the lower bound (inclusive)
+   * @param high the upper bound (inclusive)
+   * @return the number of values within the range, or 0 if {@code low > high}
+   */
+  public int rangeCount(int low, int high) {
+    if (low > high) {
+      return 0;
+    }
+    int atMostHigh = high == Integer.MAX_VALUE ? size() : rank(high + 1);
+    return atMostHigh - rank(low);
+  }
+
+  /**
+   * Returns the median of the stored values in {@code O(log n)}. For an even number of values,
+   * the lower of the two middle values is returned.
+   *
+   * @return the (lower) median
+   * @throws IllegalStateException if the tree is empty
+   */
+  public int median() {
+    if (root == null) {
+      throw new IllegalStateException("Tree is empty");
+    }
+    return select((size() - 1) / 2);
+  }
+
+  /**
+   * Adds several occurrences of a value to a multiset in {@code O(log n)}: the count of a present value
+   * is incremented in a single descent, an absent value is inserted with the given count.
+   *
+   * @param value       the integer value to add
+   * @param occurrences the number of occurrences to add; must be positive
+   * @return the new count of the value
+   * @throws IllegalStateException    if this tree is not a multiset, see {@link #multiset()}
+   * @throws IllegalArgumentException if {@code occurrences} is not positive
+   * @throws ArithmeticException      if the count would exceed {@link Integer#MAX_VALUE}
+   */
+  public int add(int value, int occurrences) {
+    if (!multiset) {
+      throw new IllegalStateException("Counted inserts need a multiset, see AVLTree.multiset()");
+    }
+    if (occurrences <= 0) {
+      throw new IllegalArgumentException("Occurrences must be positive: " + occurrences);
+    }
+
+    int size = size();
+    CountedNode node = (CountedNode) put(value);
+    if (size() != size) {
+      occurrences--; // A new node already counts one occurrence
+    }
+    node.count = Math.addExact(node.count, occurrences);
+    return node.count;
+  }
+
+  /**
+   * Returns how often a value occurs in {@code O(log n)}. In a set, this is either 0 or 1.
+   *
+   * @param value the integer value to count
+   * @return the number of occurrences of the value
+   */
+  public int count(int value) {
+    Node node = find(value);
+    return node == null ? 0 : node.getCount();
+  }
+
+  /**
+   * Removes a single occurrence of a value. In a multiset, this decrements the value's count
+   * and only removes its node once the count reaches zero; in a set, it is the same as {@link #remove(int)}.
+   *
+   * @param value the integer value to remove once
+   * @return {@code true} if an occurrence was removed, {@code false} if the value was not present
+   */
+  public boolean removeOne(int value) {
+    Node node = find(value);
+    if (node == null) {
+      return false;
+    }
+    if (node.getCount() > 1) {
+      ((CountedNode) node).count--;
+      return true;
+    }
+    return remove(value);
+  }
+
+  /**
+   * Creates an immutable copy of the current values that is laid out for fast, branch-free lookups,
+   * see {@link FrozenAVLTree}. Building it takes {@code O(n)} time and {@code 4n} bytes; later changes
+   * to this tree do not affect the frozen copy.
+   *
+   * @return the frozen copy of this tree
+   */
+  public FrozenAVLTree freeze() {
+    return FrozenAVLTree.of(root);
+  }
+
+  /**
+   * Returns the height of the tree in {@code O(1)}, read from the root.
+   *
+   * @return the height of the tree, 0 if it is empty
+   */
+  @Override
+  public int height() {
+    return height(root);
+  }
+
+  /**
+   * Removes all values from the tree in {@code O(1)}, keeping the listener, the mode and the rotation count
+   * of the tree. A pooled tree returns all of its nodes to its arena for reuse; otherwise, the nodes are left
+   * to the garbage collector.
+   */
+  @Override
+  public void clear() {
+    root = null;
+    fingerDepth = 0;
+    if (arena != null) {
+      arena.reset();
+    }
+  }
+
+  /**
+   * Removes every given value from the AVL tree, see {@link #remove(int)}.
+   *
+   * @param values the values to remove; cannot be null, values that are not present are ignored
+   * @return the number of values that were actually removed
+   * @throws IllegalArgumentException if {@code values} is null
+   */
+  public int removeAll(int[] values) {
+    if (values == null) {
+      throw new IllegalArgumentException("Values array cannot be null");
+    }
+
+    int removed = 0;
+    for (int value : values) {
+      if (remove(value)) {
+        removed++;
+      }
+    }
+    return removed;
+  }
+
+  /**
+   * Links a new subtree in place of a node that was reached via the path stack.
+   *
+   * @param depth   the position of {@code node} on the path stack; its parent is stored at {@code depth - 1}
+   * @param node    the node to replace
+   * @param subtree the subtree to link in its place; may be null
+   */
+  private void replaceChild(int depth, Node node, Node subtree) {
+    if (depth == 0) {
+      root = subtree;
+    } else if (path[depth - 1].left == node) {
+      path[depth - 1].left = subtree;
+    } else {
+      path[depth - 1].right = subtree;
+    }
+  }
+
+  /**
+   * Creates the node for a newly inserted value. Trees whose nodes carry additional data,
+   * like {@link AVLTreeMap}, override this to create their own {@link Node} subclass.
+   *
+   * @param value the inserted value
+   * @return a new leaf node holding {@code value}
+   */
+  Node newNode(int value) {
+    if (arena != null) {
+      return arena.allocate(value);
+    }
+    return multiset ? new CountedNode(value) : new Node(value);
+  }
+
+  /**
+   * Copies the entry stored in one node into another, used when a removed node with two children
+   * takes over the entry of its in-order successor. Overridden together with {@link #newNode(int)}.
+   *
+   * @param from the node whose entry is copied
+   * @param to   the node that receives the entry
+   */
+  void copyEntry(Node from, Node to) {
+    to.value = from.value;
+    if (multiset) {
+      ((CountedNode) to).count = ((CountedNode) from).count;
+    }
+  }
+
+  /**
+   * Builds an AVL tree from arbitrary input without performing a single rotation.
+   * The input is copied, sorted and deduplicated, and the tree is then built bottom-up
+   * in linear time, so the overall cost is dominated by the {@code O(n log n)} sort.
+   * The resulting tree is perfectly height-balanced, so its shape may differ from the one
+   * produced by inserting the same values one after another; the in-order sequence is identical.
+   *
+   * @param values the values to load; cannot be null and is not modified
+   * @return a new AVL tree containing every distinct value of {@code values}
+   * @throws IllegalArgumentException if {@code values} is null
+   */
+  public static AVLTree bulkLoad(int[] values) {
+    if (values == null) {
+      throw new IllegalArgumentException("Values array cannot be null");
+    }
+
+    int[] sorted = values.clone();
+    Arrays.sort(sorted);
+    return fromSortedRange(sorted, removeDuplicates(sorted));
+  }
+
+  /**
+   * Builds an AVL tree from values that are already sorted in ascending order in {@code O(n)} time.
+   * Repeated values are allowed and are stored only once. The input array is never modified;
+   * it is only copied if it contains duplicates.
+   *
+   * @param sorted the values to load, sorted in ascending order; cannot be null
+   * @return a new, perfectly height-balanced AVL tree containing every distinct value of {@code sorted}
+   * @throws IllegalArgumentException if {@code sorted} is null or not sorted in ascending order
+   */
+  public static AVLTree fromSorted(int[] sorted) {
+    if (sorted == null) {
+      throw new IllegalArgumentException("Values array cannot be null");
+    }
+
+    boolean strictlyAscending = true;
+    for (int i = 1; i < sorted.length; i++) {
+      if (sorted[i - 1] > sorted[i]) {
+        throw new IllegalArgumentException("Values must be sorted in ascending order, but " + sorted[i - 1]
+            + " comes before " + sorted[i]);
+      }
+      if (sorted[i - 1] == sorted[i]) {
+        strictlyAscending = false;
+      }
+    }
+
+    if (strictlyAscending) {
+      return fromSortedRange(sorted, sorted.length);
+    }
+    int[] distinct = sorted.clone();
+    return fromSortedRange(distinct, removeDuplicates(distinct));
+  }
+
+  /**
+   * Creates a tree from the first {@code length} elements of a strictly ascending array.
+   *
+   * @param sorted the strictly ascending values
+   * @param length the number of leading elements of {@code sorted} to use
+   * @return a new AVL tree containing the given values
+   */
+  private static AVLTree fromSortedRange(int[] sorted, int length) {
+    AVLTree tree = new AVLTree();
+    tree.root = buildBalanced(sorted, 0, length - 1);
+    return tree;
+  }
+
+  /**
+   * Compacts a sorted array in place so that its leading elements are the distinct values in ascending order.
+   *
+   * @param sorted the sorted array to compact
+   * @return the number of distinct values now stored at the start of {@code sorted}
+   */
+  private static int removeDuplicates(int[] sorted) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+
+    int distinct = 1;
+    for (int i = 1; i < sorted.length; i++) {
+      if (sorted[i] != sorted[distinct - 1]) {
+        sorted[distinct++] = sorted[i];
+      }
+    }
+    return distinct;
+  }
+
+  /**
+   * Recursively builds a perfectly height-balanced subtree from a strictly ascending array range.
+   * The middle element becomes the subtree root, so the recursion depth is {@code O(log n)}
+   * and every node's height is set exactly once.
+   *
+   * @param sorted the strictly ascending values
+   * @param from   the first index of the range (inclusive)
+   * @param to     the last index of the range (inclusive)
+   * @return the root of the built subtree, or null if the range is empty
+   */
+  private static Node buildBalanced(int[] sorted, int from, int to) {
+    if (from > to) {
+      return null;
+    }
+
+    int mid = (from + to) >>> 1;
+    Node node = new Node(sorted[mid]);
+    node.left = buildBalanced(sorted, from, mid - 1);
+    node.right = buildBalanced(sorted, mid + 1, to);
+    node.height = 1 + Math.max(height(node.left), height(node.right));
+    node.size = 1 + size(node.left) + size(node.right);
+    return node;
+  }
+
   /**
    * Calculates the height of a given node in the AVL tree.
    * The height is defined as the distance from the node to its farthest leaf.
@@ -23,7 +829,7 @@ public class AVLTree {
    * @param node the node whose height is to be calculated; may be null
    * @return the height of the node or 0 if the node is null
    */
-  private int height(Node node) {
+  private static int height(Node node) {
     return node == null ? 0 : node.height;
   }
 
@@ -41,22 +847,50 @@ public class AVLTree {
   }
 
 
+  /**
+   * Returns the number of nodes in the subtree rooted at the given node.
+   *
+   * @param node the root of the subtree; may be null
+   * @return the subtree size, or 0 if the node is null
+   */
+  private static int size(Node node) {
+    return node == null ? 0 : node.size;
+  }
+
+
+  /**
+   * Updates the stored height and subtree size of a node from its children and reports a height change
+   * to the listener.
+   *
+   * @param node the node to update; cannot be null
+   */
+  private void update(Node node) {
+    node.size = 1 + size(node.left) + size(node.right);
+    int newHeight = 1 + Math.max(height(node.left), height(node.right));
+    if (node.height != newHeight) {
+      listener.onHeightChange(node.value, node.height, newHeight);
+      node.height = newHeight;
+    }
+  }
+
+
   /**
    * Performs a right rotation on the given subtree root to restore AVL balance.
    *
-   * @param y the root of the subtree to rotate
+   * @param y the root of the subtree to rotate; its left child must not be null
    * @return the new root of the rotated subtree
    */
-  private Node rightRotate(Node y) {
-    System.out.println("Right rotation around " + y.value);
+  private Node rotateRight(Node y) {
+    listener.onRotateRight(y.value);
+    rotations++;
     Node x = y.left;
     Node T2 = x.right;
 
     x.right = y;
     y.left = T2;
 
-    y.height = Math.max(height(y.left), height(y.right)) + 1;
-    x.height = Math.max(height(x.left), height(x.right)) + 1;
+    update(y);
+    update(x);
 
     return x;
   }
@@ -65,19 +899,20 @@ public class AVLTree {
   /**
    * Performs a left rotation on the given subtree root to restore AVL balance.
    *
-   * @param x the root of the subtree to rotate
+   * @param x the root of the subtree to rotate; its right child must not be null
    * @return the new root of the rotated subtree
    */
-  private Node leftRotate(Node x) {
-    System.out.println("Left rotation around " + x.value);
+  private Node rotateLeft(Node x) {
+    listener.onRotateLeft(x.value);
+    rotations++;
     Node y = x.right;
     Node T2 = y.left;
 
     y.left = x;
     x.right = T2;
 
-    x.height = Math.max(height(x.left), height(x.right)) + 1;
-    y.height = Math.max(height(y.left), height(y.right)) + 1;
+    update(x);
+    update(y);
 
     return y;
   }
@@ -94,7 +929,8 @@ public class AVLTree {
    */
   private Node insertRec(Node node, int value) {
     if (node == null) {
-      return new Node(value);
+      listener.onInsert(value);
+      return newNode(value);
     }
 
     if (value < node.value) {
@@ -102,33 +938,37 @@ public class AVLTree {
     } else if (value > node.value) {
       node.right = insertRec(node.right, value);
     } else {
-      return node; // Duplicates not allowed
+      if (multiset) {
+        CountedNode counted = (CountedNode) node;
+        counted.count = Math.addExact(counted.count, 1);
+      }
+      return node; // Duplicates are counted in a multiset, otherwise not allowed
     }
 
-    node.height = 1 + Math.max(height(node.left), height(node.right));
+    update(node);
     int balance = getBalance(node);
 
     // Rotations
     if (balance > 1 && value < node.left.value) {
-      System.out.println("AVL Check: Left-Left rotation needed for " + node.value);
-      return rightRotate(node);
+      listener.onLeftLeft(node.value);
+      return rotateRight(node);
     }
 
     if (balance < -1 && value > node.right.value) {
-      System.out.println("AVL Check: Right-Right rotation needed for " + node.value);
-      return leftRotate(node);
+      listener.onRightRight(node.value);
+      return rotateLeft(node);
     }
 
     if (balance > 1 && value > node.left.value) {
-      System.out.println("AVL Check: Left-Right rotation needed for " + node.value);
-      node.left = leftRotate(node.left);
-      return rightRotate(node);
+      listener.onLeftRight(node.value);
+      node.left = rotateLeft(node.left);
+      return rotateRight(node);
     }
 
     if (balance < -1 && value < node.right.value) {
-      System.out.println("AVL Check: Right-Left rotation needed for " + node.value);
-      node.right = rightRotate(node.right);
-      return leftRotate(node);
+      listener.onRightLeft(node.value);
+      node.right = rotateRight(node.right);
+      return rotateLeft(node);
     }
 
     return node;
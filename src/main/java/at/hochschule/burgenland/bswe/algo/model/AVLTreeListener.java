@@ -0,0 +1,98 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+/**
+ * Receives notifications about the structural changes an {@link AVLTree} performs while inserting and removing values.
+ * All callbacks have empty default implementations, so an implementation only overrides the events it cares about.
+ * A tree without an explicitly attached listener uses {@link #NONE}; as long as no other listener is used
+ * on a hot path, the JIT inlines its empty methods and the calls disappear entirely.
+ */
+public interface AVLTreeListener {
+
+  /**
+   * A listener that ignores every event.
+   */
+  AVLTreeListener NONE = new AVLTreeListener() {
+  };
+
+  /**
+   * Called after a new node holding the given value has been linked into the tree.
+   *
+   * @param value the inserted value
+   */
+  default void onInsert(int value) {
+  }
+
+  /**
+   * Called after the node holding the given value has been unlinked from the tree.
+   *
+   * @param value the removed value
+   */
+  default void onRemove(int value) {
+  }
+
+  /**
+   * Called when a node became left-heavy because of an insertion into its left child's left subtree
+   * (or a removal on its right side while the left child is not right-heavy)
+   * and is about to be fixed with a single right rotation.
+   *
+   * @param value the value of the unbalanced node
+   */
+  default void onLeftLeft(int value) {
+  }
+
+  /**
+   * Called when a node became right-heavy because of an insertion into its right child's right subtree
+   * (or a removal on its left side while the right child is not left-heavy)
+   * and is about to be fixed with a single left rotation.
+   *
+   * @param value the value of the unbalanced node
+   */
+  default void onRightRight(int value) {
+  }
+
+  /**
+   * Called when a node became left-heavy because of an insertion into its left child's right subtree
+   * (or a removal on its right side while the left child is right-heavy)
+   * and is about to be fixed with a left rotation of the child followed by a right rotation.
+   *
+   * @param value the value of the unbalanced node
+   */
+  default void onLeftRight(int value) {
+  }
+
+  /**
+   * Called when a node became right-heavy because of an insertion into its right child's left subtree
+   * (or a removal on its left side while the right child is left-heavy)
+   * and is about to be fixed with a right rotation of the child followed by a left rotation.
+   *
+   * @param value the value of the unbalanced node
+   */
+  default void onRightLeft(int value) {
+  }
+
+  /**
+   * Called right before a single left rotation around the given node.
+   *
+   * @param value the value of the node that moves down to the left
+   */
+  default void onRotateLeft(int value) {
+  }
+
+  /**
+   * Called right before a single right rotation around the given node.
+   *
+   * @param value the value of the node that moves down to the right
+   */
+  default void onRotateRight(int value) {
+  }
+
+  /**
+   * Called whenever the stored height of a node changes.
+   *
+   * @param value     the value of the node
+   * @param oldHeight the height before the change
+   * @param newHeight the height after the change
+   */
+  default void onHeightChange(int value, int oldHeight, int newHeight) {
+  }
+}
@@ -0,0 +1,154 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import java.util.NoSuchElementException;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * An ordered map from int keys to long values, built on the balancing logic of {@link AVLTree}.
+ * Each key and its value live in the same {@link IntLongNode}, so a lookup, a {@link #put(int, long)} and a
+ * {@link #merge(int, long, LongBinaryOperator)} are each a single {@code O(log n)} descent, and neither keys nor
+ * values are ever boxed. Entries are kept in ascending key order,
+ * which {@link #forEach(IntLongConsumer)} follows.
+ */
+public class AVLTreeMap {
+  private final EntryTree tree = new EntryTree();
+
+  /**
+   * Associates a value with a key, replacing the previous value if the key is already present.
+   *
+   * @param key   the key
+   * @param value the value to store
+   * @return {@code true} if the key was newly added, {@code false} if its value was replaced
+   */
+  public boolean put(int key, long value) {
+    int size = tree.size();
+    IntLongNode node = (IntLongNode) tree.put(key);
+    node.payload = value;
+    return tree.size() != size;
+  }
+
+  /**
+   * Returns the value associated with a key.
+   *
+   * @param key the key to look up
+   * @return the value of the key
+   * @throws NoSuchElementException if the key is not present
+   */
+  public long get(int key) {
+    IntLongNode node = (IntLongNode) tree.find(key);
+    if (node == null) {
+      throw new NoSuchElementException("Key not found: " + key);
+    }
+    return node.payload;
+  }
+
+  /**
+   * Returns the value associated with a key, or a default value if the key is not present.
+   *
+   * @param key          the key to look up
+   * @param defaultValue the value to return if the key is not present
+   * @return the value of the key, or {@code defaultValue}
+   */
+  public long getOrDefault(int key, long defaultValue) {
+    IntLongNode node = (IntLongNode) tree.find(key);
+    return node == null ? defaultValue : node.payload;
+  }
+
+  /**
+   * Stores {@code value} for an absent key, or combines it with the present value of the key,
+   * e.g. {@code merge(key, 1, Long::sum)} to count occurrences.
+   *
+   * @param key      the key
+   * @param value    the value to store or to combine with the present value
+   * @param function combines the present value (first argument) with {@code value} (second argument);
+   *                 cannot be null
+   * @return the new value of the key
+   * @throws IllegalArgumentException if {@code function} is null
+   */
+  public long merge(int key, long value, LongBinaryOperator function) {
+    if (function == null) {
+      throw new IllegalArgumentException("Function cannot be null");
+    }
+
+    int size = tree.size();
+    IntLongNode node = (IntLongNode) tree.put(key);
+    node.payload = tree.size() != size ? value : function.applyAsLong(node.payload, value);
+    return node.payload;
+  }
+
+  /**
+   * Checks whether a key is present.
+   *
+   * @param key the key to search for
+   * @return {@code true} if the key is present, otherwise {@code false}
+   */
+  public boolean containsKey(int key) {
+    return tree.contains(key);
+  }
+
+  /**
+   * Removes a key and its value.
+   *
+   * @param key the key to remove
+   * @return {@code true} if the key was removed, {@code false} if it was not present
+   */
+  public boolean remove(int key) {
+    return tree.remove(key);
+  }
+
+  /**
+   * Returns the number of entries in {@code O(1)}.
+   *
+   * @return the number of entries
+   */
+  public int size() {
+    return tree.size();
+  }
+
+  /**
+   * Passes every entry to an action in ascending key order.
+   *
+   * @param action the action to perform; cannot be null
+   * @throws IllegalArgumentException if {@code action} is null
+   */
+  public void forEach(IntLongConsumer action) {
+    if (action == null) {
+      throw new IllegalArgumentException("Action cannot be null");
+    }
+    forEach((IntLongNode) tree.getRoot(), action);
+  }
+
+  /**
+   * Returns the root of the underlying tree; its nodes are {@link IntLongNode}s, so the keys can be
+   * traversed and printed like any other tree.
+   *
+   * @return the root node, or null if the map is empty
+   */
+  public IntLongNode getRoot() {
+    return (IntLongNode) tree.getRoot();
+  }
+
+  private static void forEach(IntLongNode node, IntLongConsumer action) {
+    if (node != null) {
+      forEach((IntLongNode) node.left, action);
+      action.accept(node.value, node.payload);
+      forEach((IntLongNode) node.right, action);
+    }
+  }
+
+  /**
+   * An {@link AVLTree} of {@link IntLongNode}s.
+   */
+  private static final class EntryTree extends AVLTree {
+    @Override
+    Node newNode(int value) {
+      return new IntLongNode(value);
+    }
+
+    @Override
+    void copyEntry(Node from, Node to) {
+      super.copyEntry(from, to);
+      ((IntLongNode) to).payload = ((IntLongNode) from).payload;
+    }
+  }
+}
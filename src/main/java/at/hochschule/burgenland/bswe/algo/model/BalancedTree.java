@@ -0,0 +1,33 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+/**
+ * A self-balancing binary search tree of distinct integers. Implementations differ in their balancing rules
+ * ({@link AVLTree}, {@link WAVLTree}, {@link RedBlackTree}) and therefore in how often they rotate and how
+ * tall they get, but all keep their height logarithmic and can be traversed and printed through
+ * {@link #getRoot()}.
+ */
+public interface BalancedTree extends IntTree {
+
+  /**
+   * Returns the height of the tree, i.e. the number of nodes on its longest root-to-leaf path.
+   * The cost depends on the implementation: {@link AVLTree} stores the height in every node and answers in
+   * {@code O(1)}, while {@link WAVLTree} and {@link RedBlackTree} only store ranks or colors, which bound the height
+   * but do not determine it, so they walk the whole tree in {@code O(n)} (see {@link LinkedBalancedTree#height()}).
+   * Callers that need the height often, e.g. while timing, should read it once outside the hot path.
+   *
+   * @return the height of the tree, 0 if it is empty
+   */
+  int height();
+
+  /**
+   * Returns the number of single rotations performed since the tree was created; a double rotation counts twice.
+   *
+   * @return the number of rotations
+   */
+  long getRotations();
+
+  /**
+   * Removes all values from the tree. The rotation count is kept.
+   */
+  void clear();
+}
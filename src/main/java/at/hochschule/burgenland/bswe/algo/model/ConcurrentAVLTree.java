@@ -0,0 +1,232 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import java.util.concurrent.locks.StampedLock;
+
+import at.hochschule.burgenland.bswe.algo.traversal.TreeTraverser;
+
+/**
+ * A thread-safe {@link AVLTree} for many concurrent readers and a few writers.
+ * Writers (insert, add, remove) take an exclusive write lock of a {@link StampedLock} and modify the tree in place.
+ * Lookups first descend optimistically without any lock and only validate afterwards that no write
+ * happened in the meantime, so they never block each other and rarely block on writers;
+ * if validation fails, the lookup is repeated under the shared read lock.
+ * Traversals work on a private snapshot of the nodes that is copied and validated the same way,
+ * so no lock is held while the values are visited.
+ */
+public class ConcurrentAVLTree implements IntTree {
+  /**
+   * Upper bound for the number of levels an optimistic descent may visit. A valid AVL tree with int keys is
+   * never that deep, so exceeding it means the descent raced with a rotation and will fail validation anyway.
+   */
+  private static final int MAX_HEIGHT = 64;
+
+  private final AVLTree tree;
+  private final StampedLock lock = new StampedLock();
+
+  /**
+   * Creates an empty concurrent AVL tree that reports no events.
+   */
+  public ConcurrentAVLTree() {
+    this(AVLTreeListener.NONE);
+  }
+
+  /**
+   * Creates an empty concurrent AVL tree that reports inserts, removals and rotations to the given listener.
+   * The listener is only ever called by the thread holding the write lock.
+   *
+   * @param listener the listener to notify; cannot be null
+   * @throws IllegalArgumentException if {@code listener} is null
+   */
+  public ConcurrentAVLTree(AVLTreeListener listener) {
+    this.tree = new AVLTree(listener);
+  }
+
+  @Override
+  public void insert(int value) {
+    add(value);
+  }
+
+  @Override
+  public boolean add(int value) {
+    long stamp = lock.writeLock();
+    try {
+      return tree.add(value);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public boolean remove(int value) {
+    long stamp = lock.writeLock();
+    try {
+      return tree.remove(value);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * Checks whether the tree contains a value. The descent is performed optimistically without locking and
+   * is only repeated under the read lock if a writer modified the tree in the meantime.
+   *
+   * @param value the integer value to search for
+   * @return {@code true} if the value is present, otherwise {@code false}
+   */
+  @Override
+  public boolean contains(int value) {
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      boolean found = containsOptimistically(value);
+      if (lock.validate(stamp)) {
+        return found;
+      }
+    }
+
+    stamp = lock.readLock();
+    try {
+      return tree.contains(value);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Returns the number of values stored in the tree, read optimistically like {@link #contains(int)}.
+   *
+   * @return the number of values
+   */
+  @Override
+  public int size() {
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      Node root = tree.getRoot();
+      int size = root == null ? 0 : root.size;
+      if (lock.validate(stamp)) {
+        return size;
+      }
+    }
+
+    stamp = lock.readLock();
+    try {
+      return tree.size();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Traverses a snapshot of the tree in the given order, see {@link #getRoot()}. The result is a consistent
+   * view of a single version, and writers keep going while the values are visited.
+   *
+   * @param order the traversal order, see {@link TreeTraverser#traverse(TreeNode, String)}
+   * @return the values in traversal order
+   * @throws IllegalArgumentException if {@code order} is not a valid traversal order
+   */
+  public int[] traverse(String order) {
+    return TreeTraverser.traverse(getRoot(), order);
+  }
+
+  /**
+   * Returns the root of a private snapshot of the tree in {@code O(n)}. The nodes are copied optimistically
+   * without locking and the copy is validated like {@link #contains(int)}; only if a writer interfered they are
+   * copied again under the read lock, which is released before the snapshot is returned. The snapshot is never
+   * modified by the tree, so it can be passed to {@link TreeTraverser} or
+   * {@link at.hochschule.burgenland.bswe.algo.display.TreePrinter} while other threads keep writing.
+   *
+   * @return the root of the snapshot, or null if the tree is empty
+   */
+  @Override
+  public Node getRoot() {
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      Node snapshot = copy(tree.getRoot());
+      if (lock.validate(stamp)) {
+        return snapshot;
+      }
+    }
+
+    stamp = lock.readLock();
+    try {
+      return copy(tree.getRoot());
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Descends along the BST ordering without locking. Because a concurrent rotation may temporarily
+   * link nodes in a cycle, the descent gives up after {@link #MAX_HEIGHT} levels; its result is only
+   * meaningful if the caller's optimistic stamp is still valid afterwards.
+   *
+   * @param value the integer value to search for
+   * @return whether the value was found, assuming no concurrent write happened
+   */
+  private boolean containsOptimistically(int value) {
+    Node node = tree.getRoot();
+    for (int level = 0; node != null && level < MAX_HEIGHT; level++) {
+      int current = node.value;
+      if (value < current) {
+        node = node.left;
+      } else if (value > current) {
+        node = node.right;
+      } else {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Copies a tree iteratively, pairing every original node with its copy on an explicit stack.
+   * The root's subtree size bounds the number of copied nodes: a copy racing with a writer (which may even
+   * run into a temporary cycle) stops there, and its result is only meaningful if the caller's stamp is valid.
+   *
+   * @param root the root of the tree to copy; may be null
+   * @return the root of the copy, or null if the tree is empty
+   */
+  private static Node copy(Node root) {
+    if (root == null) {
+      return null;
+    }
+    int limit = Math.max(root.size, 1);
+    Node[] originals = new Node[limit];
+    Node[] copies = new Node[limit];
+    Node rootCopy = copyNode(root);
+    originals[0] = root;
+    copies[0] = rootCopy;
+    int top = 1;
+    int copied = 1;
+    while (top > 0) {
+      top--;
+      Node original = originals[top];
+      Node copy = copies[top];
+      for (int side = 0; side < 2; side++) {
+        Node child = side == 0 ? original.left : original.right;
+        if (child == null) {
+          continue;
+        }
+        if (copied++ == limit) {
+          return rootCopy;
+        }
+        Node childCopy = copyNode(child);
+        if (side == 0) {
+          copy.left = childCopy;
+        } else {
+          copy.right = childCopy;
+        }
+        originals[top] = child;
+        copies[top] = childCopy;
+        top++;
+      }
+    }
+    return rootCopy;
+  }
+
+  private static Node copyNode(Node node) {
+    Node copy = new Node(node.value);
+    copy.height = node.height;
+    copy.size = node.size;
+    return copy;
+  }
+}
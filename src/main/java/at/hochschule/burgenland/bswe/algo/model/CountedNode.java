@@ -0,0 +1,22 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import lombok.Getter;
+
+/**
+ * A node of a multiset {@link AVLTree} (see {@link AVLTree#multiset()}): a {@link Node} that additionally
+ * records how often its value occurs, so a repeated value costs a counter increment instead of a new node.
+ */
+@Getter
+public class CountedNode extends Node {
+  public int count;
+
+  public CountedNode(int value) {
+    super(value);
+    this.count = 1;
+  }
+
+  @Override
+  public String toString() {
+    return count == 1 ? String.valueOf(value) : value + "x" + count;
+  }
+}
@@ -0,0 +1,77 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import lombok.Getter;
+
+/**
+ * An {@link AVLTreeListener} that only counts events, e.g. to monitor how much rebalancing work a workload causes.
+ */
+@Getter
+public class CountingAVLTreeListener implements AVLTreeListener {
+  private long inserts;
+  private long removals;
+  private long leftLeftCases;
+  private long rightRightCases;
+  private long leftRightCases;
+  private long rightLeftCases;
+  private long rotations;
+  private long heightChanges;
+
+  @Override
+  public void onInsert(int value) {
+    inserts++;
+  }
+
+  @Override
+  public void onRemove(int value) {
+    removals++;
+  }
+
+  @Override
+  public void onLeftLeft(int value) {
+    leftLeftCases++;
+  }
+
+  @Override
+  public void onRightRight(int value) {
+    rightRightCases++;
+  }
+
+  @Override
+  public void onLeftRight(int value) {
+    leftRightCases++;
+  }
+
+  @Override
+  public void onRightLeft(int value) {
+    rightLeftCases++;
+  }
+
+  @Override
+  public void onRotateLeft(int value) {
+    rotations++;
+  }
+
+  @Override
+  public void onRotateRight(int value) {
+    rotations++;
+  }
+
+  @Override
+  public void onHeightChange(int value, int oldHeight, int newHeight) {
+    heightChanges++;
+  }
+
+  /**
+   * Sets all counters back to zero.
+   */
+  public void reset() {
+    inserts = 0;
+    removals = 0;
+    leftLeftCases = 0;
+    rightRightCases = 0;
+    leftRightCases = 0;
+    rightLeftCases = 0;
+    rotations = 0;
+    heightChanges = 0;
+  }
+}
@@ -0,0 +1,141 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+/**
+ * An AVL tree of distinct {@code double} keys, e.g. measurements or scores, stored unboxed in {@link DoubleNode}s.
+ * Keys are ordered by {@link Double#compare(double, double)}, which is a total order: {@code -0.0} is smaller
+ * than {@code 0.0} and {@code NaN} is greater than every other value and equal to itself, so both zeros and
+ * {@code NaN} can be stored like any other key.
+ * Only the key comparisons live here; insertion, removal and rebalancing are shared with {@link LongAVLTree} in
+ * {@link PrimitiveAVLTree} and follow exactly the same iterative algorithms and rotations as {@link AVLTree#add(int)}
+ * and {@link AVLTree#remove(int)}. Listeners are not supported, since {@link AVLTreeListener} reports {@code int}
+ * values.
+ * Use {@link at.hochschule.burgenland.bswe.algo.traversal.TreeTraverser#traverse(DoubleNode, String)} to traverse it.
+ */
+public class DoubleAVLTree extends PrimitiveAVLTree<DoubleNode> {
+
+  /**
+   * Creates an empty tree.
+   */
+  public DoubleAVLTree() {
+    super(new DoubleNode[MAX_HEIGHT]);
+  }
+
+  /**
+   * Inserts a value into the tree, see {@link #add(double)}.
+   *
+   * @param value the value to insert
+   */
+  public void insert(double value) {
+    add(value);
+  }
+
+  /**
+   * Inserts a value into the tree without recursion, rebalancing bottom-up along the recorded path
+   * until a subtree's height no longer changes or a rotation was performed.
+   *
+   * @param value the value to insert
+   * @return {@code true} if the value was inserted, {@code false} if it was already present
+   */
+  public boolean add(double value) {
+    DoubleNode[] path = this.path;
+    int depth = 0;
+    DoubleNode node = getRoot();
+    int comparison = 0;
+    while (node != null) {
+      comparison = Double.compare(value, node.value);
+      if (comparison == 0) {
+        return false; // Duplicates not allowed
+      }
+      path[depth++] = node;
+      node = comparison < 0 ? node.left : node.right;
+    }
+    insertLeaf(depth, new DoubleNode(value), comparison < 0);
+    return true;
+  }
+
+  /**
+   * Removes a value from the tree. A node with two children takes over the value of its in-order successor,
+   * which is unlinked instead; the path is then rebalanced bottom-up until a subtree's height no longer changes.
+   *
+   * @param value the value to remove
+   * @return {@code true} if the value was removed, {@code false} if it was not present
+   */
+  public boolean remove(double value) {
+    DoubleNode[] path = this.path;
+    int depth = 0;
+    DoubleNode node = getRoot();
+    while (node != null) {
+      int comparison = Double.compare(value, node.value);
+      if (comparison == 0) {
+        removeNode(depth, node);
+        return true;
+      }
+      path[depth++] = node;
+      node = comparison < 0 ? node.left : node.right;
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether the tree contains a value, see {@link #find(double)}.
+   *
+   * @param value the value to search for
+   * @return {@code true} if the value is present, otherwise {@code false}
+   */
+  public boolean contains(double value) {
+    return find(value) != null;
+  }
+
+  /**
+   * Searches the node holding a value by descending iteratively along the BST ordering in {@code O(log n)}.
+   *
+   * @param value the value to search for
+   * @return the node holding the value, or null if the value is not present
+   */
+  public DoubleNode find(double value) {
+    DoubleNode node = getRoot();
+    while (node != null) {
+      int comparison = Double.compare(value, node.value);
+      if (comparison < 0) {
+        node = node.left;
+      } else if (comparison > 0) {
+        node = node.right;
+      } else {
+        return node;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Counts the values that are smaller than the given value in {@code O(log n)}, like {@link AVLTree#rank(int)}.
+   *
+   * @param value the value to rank
+   * @return the number of stored values smaller than {@code value}
+   */
+  public int rank(double value) {
+    int rank = 0;
+    DoubleNode node = getRoot();
+    while (node != null) {
+      if (Double.compare(value, node.value) <= 0) {
+        node = node.left;
+      } else {
+        rank += size(node.left) + 1;
+        node = node.right;
+      }
+    }
+    return rank;
+  }
+
+  /**
+   * Returns the value at the given position of the sorted sequence of stored values in {@code O(log n)},
+   * like {@link AVLTree#select(int)}.
+   *
+   * @param k the zero-based position; {@code select(0)} is the minimum and {@code select(size() - 1)} the maximum
+   * @return the k-th smallest value
+   * @throws IllegalArgumentException if {@code k} is negative or not smaller than {@link #size()}
+   */
+  public double select(int k) {
+    return selectNode(k).value;
+  }
+}
@@ -0,0 +1,25 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import lombok.Getter;
+
+/**
+ * A node of a {@link DoubleAVLTree}: the same layout as {@link Node}, but with an unboxed {@code double} key.
+ */
+@Getter
+public class DoubleNode extends PrimitiveAVLNode<DoubleNode> {
+  public double value;
+
+  public DoubleNode(double value) {
+    this.value = value;
+  }
+
+  @Override
+  protected void copyKey(DoubleNode source) {
+    this.value = source.value;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+}
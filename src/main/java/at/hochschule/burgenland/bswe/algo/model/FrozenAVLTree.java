@@ -0,0 +1,211 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import java.util.Arrays;
+
+/**
+ * An immutable, read-only snapshot of the values of an {@link AVLTree} (see {@link AVLTree#freeze()}),
+ * laid out for fast lookups. The sorted values are stored in a single {@code int[]} in Eytzinger order:
+ * the root is at index 1 and the children of the node at index {@code k} are at {@code 2k} and {@code 2k + 1},
+ * i.e. the array is the level-order sequence of a complete binary search tree. A lookup therefore needs no
+ * pointers at all, the top levels of the tree share a few cache lines, and the descent
+ * {@code k = 2k + (keys[k] < value ? 1 : 0)} has no data-dependent branch that could be mispredicted.
+ *
+ * <p>The implicit tree has the same values and in-order sequence as the frozen tree, but the shape of
+ * a complete tree, so pre-order, post-order and level-order traversals follow that shape.
+ */
+public final class FrozenAVLTree {
+  /**
+   * The values in Eytzinger order, starting at index 1; index 0 is unused.
+   */
+  private final int[] keys;
+  private final int size;
+
+  private FrozenAVLTree(int[] sorted) {
+    this.size = sorted.length;
+    this.keys = new int[size + 1];
+    fill(sorted, 0, 1);
+  }
+
+  /**
+   * Creates the frozen layout of a subtree in {@code O(n)}: the values are collected in order and then
+   * written to their Eytzinger positions. Occurrence counts of multiset nodes are not kept.
+   *
+   * @param root the root of the subtree to freeze; may be null
+   * @return the frozen values
+   * @throws IllegalArgumentException if the subtree holds {@code 2^30} or more values, whose implicit
+   *                                  child indices would overflow
+   */
+  static FrozenAVLTree of(Node root) {
+    if (root != null && root.size >= (1 << 30)) {
+      throw new IllegalArgumentException("Cannot freeze 2^30 or more values: " + root.size);
+    }
+    int[] sorted = new int[root == null ? 0 : root.size];
+    collect(root, sorted, 0);
+    return new FrozenAVLTree(sorted);
+  }
+
+  /**
+   * Checks whether a value is present with a branch-free descent of {@code O(log n)} steps.
+   * The descent always runs to the bottom of the implicit tree and records a right turn as a 1 bit;
+   * stripping the trailing right turns and the final left turn yields the smallest value {@code >= value}.
+   *
+   * @param value the value to search for
+   * @return {@code true} if the value is present, otherwise {@code false}
+   */
+  public boolean contains(int value) {
+    int[] keys = this.keys;
+    int n = size;
+    int k = 1;
+    while (k <= n) {
+      k = (k << 1) + (keys[k] < value ? 1 : 0);
+    }
+    k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+    return k != 0 && keys[k] == value;
+  }
+
+  /**
+   * Returns the number of values.
+   *
+   * @return the number of values
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Traverses the implicit tree in the given order. In-order returns the sorted values, exactly like
+   * the in-order traversal of the frozen tree; level-order is a copy of the Eytzinger array.
+   *
+   * @param order the traversal order (preorder, inorder, postorder or levelorder, case-insensitive)
+   * @return the values in traversal order
+   * @throws IllegalArgumentException if {@code order} is not a valid traversal order
+   */
+  public int[] traverse(String order) {
+    int[] result = new int[size];
+    switch (order.toLowerCase()) {
+      case "preorder":
+        preOrder(1, result, 0);
+        break;
+      case "inorder":
+        inOrder(1, result, 0);
+        break;
+      case "postorder":
+        postOrder(1, result, 0);
+        break;
+      case "levelorder":
+        System.arraycopy(keys, 1, result, 0, size);
+        break;
+      default:
+        throw new IllegalArgumentException("Invalid traversal type: " + order +
+            ". Valid options: preorder, inorder, postorder, levelorder");
+    }
+    return result;
+  }
+
+  /**
+   * Returns a {@link TreeNode} view of the root of the implicit tree, so that it can be traversed and
+   * printed like any other tree. The views are created while navigating.
+   *
+   * @return the root view, or null if there are no values
+   */
+  public TreeNode getRoot() {
+    return view(1);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(traverse("inorder"));
+  }
+
+  private TreeNode view(int index) {
+    return index <= size ? new SlotView(index) : null;
+  }
+
+  private int fill(int[] sorted, int next, int k) {
+    if (k <= size) {
+      next = fill(sorted, next, k << 1);
+      keys[k] = sorted[next++];
+      next = fill(sorted, next, (k << 1) + 1);
+    }
+    return next;
+  }
+
+  private static int collect(Node node, int[] sorted, int next) {
+    if (node != null) {
+      next = collect(node.left, sorted, next);
+      sorted[next++] = node.value;
+      next = collect(node.right, sorted, next);
+    }
+    return next;
+  }
+
+  private int preOrder(int k, int[] result, int next) {
+    if (k <= size) {
+      result[next++] = keys[k];
+      next = preOrder(k << 1, result, next);
+      next = preOrder((k << 1) + 1, result, next);
+    }
+    return next;
+  }
+
+  private int inOrder(int k, int[] result, int next) {
+    if (k <= size) {
+      next = inOrder(k << 1, result, next);
+      result[next++] = keys[k];
+      next = inOrder((k << 1) + 1, result, next);
+    }
+    return next;
+  }
+
+  private int postOrder(int k, int[] result, int next) {
+    if (k <= size) {
+      next = postOrder(k << 1, result, next);
+      next = postOrder((k << 1) + 1, result, next);
+      result[next++] = keys[k];
+    }
+    return next;
+  }
+
+  /**
+   * A read-only view of one slot of the Eytzinger array.
+   */
+  private final class SlotView implements TreeNode {
+    private final int index;
+
+    private SlotView(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public int getValue() {
+      return keys[index];
+    }
+
+    /**
+     * Returns the height of the slot's subtree. The implicit tree is complete, so its leftmost path is the longest.
+     */
+    @Override
+    public int getHeight() {
+      int height = 0;
+      for (int k = index; k <= size; k <<= 1) {
+        height++;
+      }
+      return height;
+    }
+
+    @Override
+    public TreeNode getLeft() {
+      return view(index << 1);
+    }
+
+    @Override
+    public TreeNode getRight() {
+      return view((index << 1) + 1);
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(keys[index]);
+    }
+  }
+}
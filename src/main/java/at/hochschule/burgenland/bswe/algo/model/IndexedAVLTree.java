@@ -0,0 +1,361 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+/**
+ * Base class for AVL trees of distinct integers whose nodes are addressed by an int index instead of a reference.
+ * It implements the insert, remove and lookup algorithms, the free list of removed nodes and the {@link TreeNode}
+ * views once; subclasses only decide where the fields of a node are stored (e.g. in primitive arrays or off-heap)
+ * and how the storage grows. The balancing rules are the same as in {@link AVLTree}.
+ */
+public abstract class IndexedAVLTree implements IntTree {
+  /**
+   * Index used for a missing child or an empty tree.
+   */
+  protected static final int NIL = -1;
+  private static final int MAX_HEIGHT = 64;
+
+  private int root = NIL;
+  private int size;
+  /**
+   * Number of node indices that have ever been handed out; indices at or above this value were never used.
+   */
+  private int used;
+  /**
+   * Head of the list of free node indices, which are chained through their left child field.
+   */
+  private int freeHead = NIL;
+
+  private final int[] path = new int[MAX_HEIGHT];
+
+  protected abstract int value(int node);
+
+  protected abstract void setValue(int node, int value);
+
+  protected abstract int left(int node);
+
+  protected abstract void setLeft(int node, int child);
+
+  protected abstract int right(int node);
+
+  protected abstract void setRight(int node, int child);
+
+  protected abstract int height(int node);
+
+  protected abstract void setHeight(int node, int height);
+
+  /**
+   * Returns the number of nodes the storage can currently hold, including free ones.
+   *
+   * @return the current node capacity
+   */
+  public abstract int capacity();
+
+  /**
+   * Enlarges the storage so that {@link #capacity()} increases by at least one node.
+   */
+  protected abstract void grow();
+
+  @Override
+  public void insert(int value) {
+    add(value);
+  }
+
+  /**
+   * Inserts a value iteratively, rebalancing on the way back up with the same early exit as {@link AVLTree#add(int)}.
+   *
+   * @param value the integer value to insert
+   * @return {@code true} if the value was inserted, {@code false} if it was already present
+   */
+  @Override
+  public boolean add(int value) {
+    if (root == NIL) {
+      root = allocate(value);
+      size++;
+      return true;
+    }
+
+    int[] path = this.path;
+    int depth = 0;
+    int node = root;
+    while (true) {
+      path[depth++] = node;
+      int current = value(node);
+      if (value < current) {
+        if (left(node) == NIL) {
+          setLeft(node, allocate(value));
+          break;
+        }
+        node = left(node);
+      } else if (value > current) {
+        if (right(node) == NIL) {
+          setRight(node, allocate(value));
+          break;
+        }
+        node = right(node);
+      } else {
+        return false; // Duplicates not allowed
+      }
+    }
+    size++;
+
+    for (int i = depth - 1; i >= 0; i--) {
+      node = path[i];
+      int leftHeight = heightOf(left(node));
+      int rightHeight = heightOf(right(node));
+      int balance = leftHeight - rightHeight;
+
+      int subtree;
+      if (balance > 1) {
+        if (value > value(left(node))) {
+          setLeft(node, rotateLeft(left(node)));
+        }
+        subtree = rotateRight(node);
+      } else if (balance < -1) {
+        if (value < value(right(node))) {
+          setRight(node, rotateRight(right(node)));
+        }
+        subtree = rotateLeft(node);
+      } else {
+        int newHeight = 1 + Math.max(leftHeight, rightHeight);
+        if (height(node) == newHeight) {
+          break;
+        }
+        setHeight(node, newHeight);
+        continue;
+      }
+
+      replaceChild(i, node, subtree);
+      break;
+    }
+    return true;
+  }
+
+  /**
+   * Removes a value iteratively like {@link AVLTree#remove(int)} and puts the freed node on the free list.
+   *
+   * @param value the integer value to remove
+   * @return {@code true} if the value was removed, {@code false} if it was not present
+   */
+  @Override
+  public boolean remove(int value) {
+    int[] path = this.path;
+    int depth = 0;
+    int node = root;
+    while (node != NIL && value(node) != value) {
+      path[depth++] = node;
+      node = value < value(node) ? left(node) : right(node);
+    }
+    if (node == NIL) {
+      return false;
+    }
+
+    if (left(node) != NIL && right(node) != NIL) {
+      path[depth++] = node;
+      int successor = right(node);
+      while (left(successor) != NIL) {
+        path[depth++] = successor;
+        successor = left(successor);
+      }
+      setValue(node, value(successor));
+      node = successor;
+    }
+
+    replaceChild(depth, node, left(node) != NIL ? left(node) : right(node));
+    release(node);
+    size--;
+
+    for (int i = depth - 1; i >= 0; i--) {
+      node = path[i];
+      int oldHeight = height(node);
+      int balance = balance(node);
+
+      int subtree = node;
+      if (balance > 1) {
+        if (balance(left(node)) < 0) {
+          setLeft(node, rotateLeft(left(node)));
+        }
+        subtree = rotateRight(node);
+        replaceChild(i, node, subtree);
+      } else if (balance < -1) {
+        if (balance(right(node)) > 0) {
+          setRight(node, rotateRight(right(node)));
+        }
+        subtree = rotateLeft(node);
+        replaceChild(i, node, subtree);
+      } else {
+        updateHeight(node);
+      }
+
+      if (height(subtree) == oldHeight) {
+        break;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean contains(int value) {
+    int node = root;
+    while (node != NIL) {
+      int current = value(node);
+      if (value < current) {
+        node = left(node);
+      } else if (value > current) {
+        node = right(node);
+      } else {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns a view of the root node. Every call to {@link TreeNode#getLeft()} or {@link TreeNode#getRight()}
+   * on the view creates a small view object, so traversing through views is meant for printing and
+   * general-purpose utilities rather than hot paths. The views reflect later modifications of the tree.
+   *
+   * @return a view of the root node, or null if the tree is empty
+   */
+  @Override
+  public TreeNode getRoot() {
+    return view(root);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Forgets all nodes, so that the storage can be reused from the start.
+   */
+  protected void reset() {
+    root = NIL;
+    size = 0;
+    used = 0;
+    freeHead = NIL;
+  }
+
+  /**
+   * Hands out a node for a new leaf, preferring one from the free list and growing the storage if needed.
+   *
+   * @param value the value of the new leaf
+   * @return the index of the new leaf
+   */
+  private int allocate(int value) {
+    int node;
+    if (freeHead != NIL) {
+      node = freeHead;
+      freeHead = left(node);
+    } else {
+      if (used == capacity()) {
+        grow();
+      }
+      node = used++;
+    }
+
+    setValue(node, value);
+    setLeft(node, NIL);
+    setRight(node, NIL);
+    setHeight(node, 1);
+    return node;
+  }
+
+  /**
+   * Puts an unlinked node on the free list.
+   *
+   * @param node the index of the unlinked node
+   */
+  private void release(int node) {
+    setLeft(node, freeHead);
+    setRight(node, NIL);
+    setHeight(node, 0);
+    freeHead = node;
+  }
+
+  private int heightOf(int node) {
+    return node == NIL ? 0 : height(node);
+  }
+
+  private int balance(int node) {
+    return node == NIL ? 0 : heightOf(left(node)) - heightOf(right(node));
+  }
+
+  private void updateHeight(int node) {
+    setHeight(node, 1 + Math.max(heightOf(left(node)), heightOf(right(node))));
+  }
+
+  private int rotateRight(int y) {
+    int x = left(y);
+    setLeft(y, right(x));
+    setRight(x, y);
+    updateHeight(y);
+    updateHeight(x);
+    return x;
+  }
+
+  private int rotateLeft(int x) {
+    int y = right(x);
+    setRight(x, left(y));
+    setLeft(y, x);
+    updateHeight(x);
+    updateHeight(y);
+    return y;
+  }
+
+  /**
+   * Links a new subtree in place of a node that was reached via the path stack.
+   *
+   * @param depth   the position of {@code node} on the path stack; its parent is stored at {@code depth - 1}
+   * @param node    the node to replace
+   * @param subtree the subtree to link in its place; may be {@link #NIL}
+   */
+  private void replaceChild(int depth, int node, int subtree) {
+    if (depth == 0) {
+      root = subtree;
+    } else if (left(path[depth - 1]) == node) {
+      setLeft(path[depth - 1], subtree);
+    } else {
+      setRight(path[depth - 1], subtree);
+    }
+  }
+
+  private TreeNode view(int node) {
+    return node == NIL ? null : new NodeView(node);
+  }
+
+  /**
+   * A lightweight {@link TreeNode} view of a node index.
+   */
+  private final class NodeView implements TreeNode {
+    private final int index;
+
+    private NodeView(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public int getValue() {
+      return value(index);
+    }
+
+    @Override
+    public int getHeight() {
+      return height(index);
+    }
+
+    @Override
+    public TreeNode getLeft() {
+      return view(left(index));
+    }
+
+    @Override
+    public TreeNode getRight() {
+      return view(right(index));
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(value(index));
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import java.util.Arrays;
+
+/**
+ * An AVL tree of distinct integers that stores its nodes in parallel primitive arrays instead of {@link Node} objects.
+ * A node is an index into the arrays holding its value, the indices of its children and its height,
+ * which needs 13 bytes per key instead of a full object with header and references.
+ * The arrays grow geometrically, and the slots of removed nodes are kept in a free list for reuse.
+ * The balancing rules are the same as in {@link AVLTree}.
+ */
+public class IntArrayAVLTree extends IndexedAVLTree {
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private int[] values;
+  private int[] left;
+  private int[] right;
+  private byte[] heights;
+
+  /**
+   * Creates an empty tree with a default initial capacity.
+   */
+  public IntArrayAVLTree() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates an empty tree that can hold the given number of keys before its arrays have to grow.
+   *
+   * @param initialCapacity the number of keys to reserve space for; must not be negative
+   * @throws IllegalArgumentException if {@code initialCapacity} is negative
+   */
+  public IntArrayAVLTree(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Initial capacity cannot be negative: " + initialCapacity);
+    }
+    values = new int[initialCapacity];
+    left = new int[initialCapacity];
+    right = new int[initialCapacity];
+    heights = new byte[initialCapacity];
+  }
+
+  @Override
+  public int capacity() {
+    return values.length;
+  }
+
+  /**
+   * Grows all node arrays by half of their current length (at least to {@link #DEFAULT_CAPACITY}).
+   */
+  @Override
+  protected void grow() {
+    int capacity = Math.max(DEFAULT_CAPACITY, values.length + (values.length >> 1));
+    values = Arrays.copyOf(values, capacity);
+    left = Arrays.copyOf(left, capacity);
+    right = Arrays.copyOf(right, capacity);
+    heights = Arrays.copyOf(heights, capacity);
+  }
+
+  @Override
+  protected int value(int node) {
+    return values[node];
+  }
+
+  @Override
+  protected void setValue(int node, int value) {
+    values[node] = value;
+  }
+
+  @Override
+  protected int left(int node) {
+    return left[node];
+  }
+
+  @Override
+  protected void setLeft(int node, int child) {
+    left[node] = child;
+  }
+
+  @Override
+  protected int right(int node) {
+    return right[node];
+  }
+
+  @Override
+  protected void setRight(int node, int child) {
+    right[node] = child;
+  }
+
+  @Override
+  protected int height(int node) {
+    return heights[node];
+  }
+
+  @Override
+  protected void setHeight(int node, int height) {
+    heights[node] = (byte) height;
+  }
+}
@@ -0,0 +1,16 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+/**
+ * Receives the entries of an {@link AVLTreeMap} as primitive key/value pairs, without boxing.
+ */
+@FunctionalInterface
+public interface IntLongConsumer {
+
+  /**
+   * Performs this operation on one entry.
+   *
+   * @param key   the key of the entry
+   * @param value the value of the entry
+   */
+  void accept(int key, long value);
+}
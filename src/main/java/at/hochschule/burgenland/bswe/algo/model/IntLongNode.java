@@ -0,0 +1,20 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import lombok.Getter;
+
+/**
+ * A node of an {@link AVLTreeMap}: a {@link Node} whose int value is the key, carrying an unboxed long payload.
+ */
+@Getter
+public class IntLongNode extends Node {
+  public long payload;
+
+  public IntLongNode(int key) {
+    super(key);
+  }
+
+  @Override
+  public String toString() {
+    return value + "=" + payload;
+  }
+}
@@ -0,0 +1,58 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+/**
+ * A binary search tree of integers. Implementations differ in how they store their nodes,
+ * but share the same key semantics: every value is stored in a single node, and the in-order traversal of
+ * {@link #getRoot()} yields the stored values in ascending order. Sets ignore duplicates; a multiset
+ * {@link AVLTree} (see {@link AVLTree#multiset()}) counts them in its node instead, see {@link TreeNode#getCount()}.
+ * {@link #size()} always counts distinct values.
+ */
+public interface IntTree {
+
+  /**
+   * Inserts a value into the tree. If the value is already present, a set does nothing and a multiset
+   * increments its count.
+   *
+   * @param value the integer value to insert
+   */
+  void insert(int value);
+
+  /**
+   * Inserts a value into the tree.
+   *
+   * @param value the integer value to insert
+   * @return {@code true} if the value was inserted or counted, {@code false} if it was already present in a set
+   */
+  boolean add(int value);
+
+  /**
+   * Removes a value from the tree.
+   *
+   * @param value the integer value to remove
+   * @return {@code true} if the value was removed (all its occurrences in a multiset), {@code false} if it was
+   *         not present
+   */
+  boolean remove(int value);
+
+  /**
+   * Checks whether the tree contains a value.
+   *
+   * @param value the integer value to search for
+   * @return {@code true} if the value is present, otherwise {@code false}
+   */
+  boolean contains(int value);
+
+  /**
+   * Returns the number of distinct values stored in the tree.
+   *
+   * @return the number of distinct values
+   */
+  int size();
+
+  /**
+   * Returns the root of the tree, e.g. for traversing or printing it.
+   *
+   * @return the root node, or null if the tree is empty
+   */
+  TreeNode getRoot();
+}
@@ -0,0 +1,253 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import lombok.Getter;
+
+/**
+ * Base class for balanced binary search trees of distinct integers whose nodes ({@link LinkedTreeNode}) store their
+ * balance information instead of a height. It implements everything that does not depend on the balancing rules
+ * once: the iterative descent along a fixed-size path stack, linking a new leaf, unlinking a node (a node with two
+ * children takes over the value of its in-order successor, which is unlinked instead), lookups, counted rotations
+ * and the height. Subclasses plug in their balancing strategy by restoring their invariants in
+ * {@link #rebalanceAfterInsert(int, LinkedTreeNode)} and {@link #rebalanceAfterRemove(int, LinkedTreeNode,
+ * LinkedTreeNode)}, e.g. by rank ({@link WAVLTree}) or by color ({@link RedBlackTree}).
+ * {@link AVLTree} keeps its own implementation, since its finger, subtree sizes, listener and node pool are woven
+ * into the same loops.
+ *
+ * @param <N> the node type
+ */
+public abstract class LinkedBalancedTree<N extends LinkedTreeNode<N>> implements BalancedTree {
+  /**
+   * Upper bound for the height of a tree holding at most {@code 2^32} distinct int keys under any of the
+   * balancing strategies ({@code 2 log2(n + 1)}), plus room for the node a removal may push onto the path stack.
+   */
+  protected static final int MAX_HEIGHT = 66;
+
+  @Getter
+  private N root;
+
+  /**
+   * The number of single rotations performed so far, see {@link #getRotations()}.
+   */
+  @Getter
+  private long rotations;
+
+  private int size;
+
+  /**
+   * Reusable stack of the nodes visited by {@link #add(int)} and {@link #remove(int)} on the way down,
+   * root first, which the rebalancing of subclasses walks back up.
+   */
+  protected final N[] path;
+
+  /**
+   * Creates an empty tree.
+   *
+   * @param path the path stack, with room for {@link #MAX_HEIGHT} nodes
+   */
+  protected LinkedBalancedTree(N[] path) {
+    this.path = path;
+  }
+
+  /**
+   * Creates a new leaf holding the given value, with the balance information of a new node.
+   *
+   * @param value the value of the node
+   * @return the new node
+   */
+  protected abstract N newNode(int value);
+
+  /**
+   * Restores the balance after a new leaf has been linked into the tree.
+   *
+   * @param depth the number of ancestors of the leaf; they are stored on {@link #path} at {@code 0..depth - 1}
+   * @param leaf  the new leaf
+   */
+  protected abstract void rebalanceAfterInsert(int depth, N leaf);
+
+  /**
+   * Restores the balance after a node with at most one child has been unlinked from the tree.
+   *
+   * @param depth   the number of ancestors of the unlinked node; they are stored on {@link #path}
+   *                at {@code 0..depth - 1}
+   * @param removed the unlinked node
+   * @param child   the child that took the place of the unlinked node; may be null
+   */
+  protected abstract void rebalanceAfterRemove(int depth, N removed, N child);
+
+  /**
+   * Inserts a value into the tree, see {@link #add(int)}.
+   *
+   * @param value the integer value to insert
+   */
+  @Override
+  public void insert(int value) {
+    add(value);
+  }
+
+  /**
+   * Inserts a value as a new leaf and lets the subclass restore the balance.
+   *
+   * @param value the integer value to insert
+   * @return {@code true} if the value was inserted, {@code false} if it was already present
+   */
+  @Override
+  public boolean add(int value) {
+    N[] path = this.path;
+    int depth = 0;
+    N node = root;
+    N leaf;
+    if (node == null) {
+      leaf = root = newNode(value);
+    } else {
+      while (true) {
+        path[depth++] = node;
+        if (value < node.value) {
+          if (node.left == null) {
+            leaf = node.left = newNode(value);
+            break;
+          }
+          node = node.left;
+        } else if (value > node.value) {
+          if (node.right == null) {
+            leaf = node.right = newNode(value);
+            break;
+          }
+          node = node.right;
+        } else {
+          return false; // Duplicates not allowed
+        }
+      }
+    }
+    size++;
+    rebalanceAfterInsert(depth, leaf);
+    return true;
+  }
+
+  /**
+   * Removes a value from the tree. A node with two children takes over the value of its in-order successor,
+   * which is unlinked instead; afterwards, the subclass restores the balance.
+   *
+   * @param value the integer value to remove
+   * @return {@code true} if the value was removed, {@code false} if it was not present
+   */
+  @Override
+  public boolean remove(int value) {
+    N[] path = this.path;
+    int depth = 0;
+    N node = root;
+    while (node != null && node.value != value) {
+      path[depth++] = node;
+      node = value < node.value ? node.left : node.right;
+    }
+    if (node == null) {
+      return false;
+    }
+
+    if (node.left != null && node.right != null) {
+      path[depth++] = node;
+      N successor = node.right;
+      while (successor.left != null) {
+        path[depth++] = successor;
+        successor = successor.left;
+      }
+      node.value = successor.value;
+      node = successor;
+    }
+
+    N child = node.left != null ? node.left : node.right;
+    replaceChild(depth, node, child);
+    size--;
+    rebalanceAfterRemove(depth, node, child);
+    return true;
+  }
+
+  /**
+   * Checks whether the tree contains a value by descending iteratively along the BST ordering.
+   *
+   * @param value the integer value to search for
+   * @return {@code true} if the value is present, otherwise {@code false}
+   */
+  @Override
+  public boolean contains(int value) {
+    N node = root;
+    while (node != null && node.value != value) {
+      node = value < node.value ? node.left : node.right;
+    }
+    return node != null;
+  }
+
+  /**
+   * Returns the number of values stored in the tree.
+   *
+   * @return the number of values
+   */
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Computes the height of the tree in {@code O(n)}, since nodes store their balance information instead of
+   * their height, see {@link LinkedTreeNode#getHeight()}.
+   *
+   * @return the height of the tree, 0 if it is empty
+   */
+  @Override
+  public int height() {
+    return root == null ? 0 : root.getHeight();
+  }
+
+  /**
+   * Removes all values from the tree in {@code O(1)}. The rotation count is kept.
+   */
+  @Override
+  public void clear() {
+    root = null;
+    size = 0;
+  }
+
+  /**
+   * Links a new subtree in place of a node that was reached via the path stack.
+   *
+   * @param depth   the position of {@code node} on the path stack; its parent is stored at {@code depth - 1}
+   * @param node    the node to replace
+   * @param subtree the subtree to link in its place; may be null
+   */
+  protected final void replaceChild(int depth, N node, N subtree) {
+    if (depth == 0) {
+      root = subtree;
+    } else if (path[depth - 1].left == node) {
+      path[depth - 1].left = subtree;
+    } else {
+      path[depth - 1].right = subtree;
+    }
+  }
+
+  /**
+   * Performs a right rotation; the caller adjusts the balance information.
+   *
+   * @param y the root of the subtree to rotate; its left child must not be null
+   * @return the new root of the rotated subtree
+   */
+  protected final N rotateRight(N y) {
+    rotations++;
+    N x = y.left;
+    y.left = x.right;
+    x.right = y;
+    return x;
+  }
+
+  /**
+   * Performs a left rotation; the caller adjusts the balance information.
+   *
+   * @param x the root of the subtree to rotate; its right child must not be null
+   * @return the new root of the rotated subtree
+   */
+  protected final N rotateLeft(N x) {
+    rotations++;
+    N y = x.right;
+    x.right = y.left;
+    y.left = x;
+    return y;
+  }
+}
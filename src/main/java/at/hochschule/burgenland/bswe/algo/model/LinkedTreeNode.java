@@ -0,0 +1,55 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import lombok.Getter;
+
+/**
+ * Base class for the nodes of a {@link LinkedBalancedTree}: a value and links to both children. Subclasses add the
+ * balance information of their tree, e.g. a rank ({@link WAVLNode}) or a color ({@link RedBlackNode}), but no height.
+ *
+ * @param <N> the concrete node type
+ */
+@Getter
+public abstract class LinkedTreeNode<N extends LinkedTreeNode<N>> implements TreeNode {
+  public int value;
+  public N left;
+  public N right;
+
+  protected LinkedTreeNode(int value) {
+    this.value = value;
+  }
+
+  /**
+   * Computes the height of the subtree rooted at this node, since no height is stored. The subtree is walked
+   * level by level, so this takes {@code O(size of the subtree)} time but cannot overflow the call stack;
+   * use {@link BalancedTree#height()} of the tree instead of calling this for many nodes.
+   *
+   * @return the node's height, 1 for a leaf
+   */
+  @Override
+  public int getHeight() {
+    Queue<LinkedTreeNode<N>> level = new ArrayDeque<>();
+    level.add(this);
+    int height = 0;
+    while (!level.isEmpty()) {
+      height++;
+      for (int remaining = level.size(); remaining > 0; remaining--) {
+        LinkedTreeNode<N> node = level.poll();
+        if (node.left != null) {
+          level.add(node.left);
+        }
+        if (node.right != null) {
+          level.add(node.right);
+        }
+      }
+    }
+    return height;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+}
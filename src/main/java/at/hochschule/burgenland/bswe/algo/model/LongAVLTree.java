@@ -0,0 +1,138 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+/**
+ * An AVL tree of distinct {@code long} keys, e.g. 64-bit IDs or timestamps, stored unboxed in {@link LongNode}s.
+ * Only the key comparisons live here; insertion, removal and rebalancing are shared with {@link DoubleAVLTree} in
+ * {@link PrimitiveAVLTree} and follow exactly the same iterative algorithms and rotations as {@link AVLTree#add(int)}
+ * and {@link AVLTree#remove(int)}, so a {@code LongAVLTree} has the same shape as an {@link AVLTree} that receives
+ * the same operations. Listeners are not supported, since {@link AVLTreeListener} reports {@code int} values.
+ * Use {@link at.hochschule.burgenland.bswe.algo.traversal.TreeTraverser#traverse(LongNode, String)} to traverse it.
+ */
+public class LongAVLTree extends PrimitiveAVLTree<LongNode> {
+
+  /**
+   * Creates an empty tree.
+   */
+  public LongAVLTree() {
+    super(new LongNode[MAX_HEIGHT]);
+  }
+
+  /**
+   * Inserts a value into the tree, see {@link #add(long)}.
+   *
+   * @param value the value to insert
+   */
+  public void insert(long value) {
+    add(value);
+  }
+
+  /**
+   * Inserts a value into the tree without recursion, rebalancing bottom-up along the recorded path
+   * until a subtree's height no longer changes or a rotation was performed.
+   *
+   * @param value the value to insert
+   * @return {@code true} if the value was inserted, {@code false} if it was already present
+   */
+  public boolean add(long value) {
+    LongNode[] path = this.path;
+    int depth = 0;
+    LongNode node = getRoot();
+    int comparison = 0;
+    while (node != null) {
+      comparison = Long.compare(value, node.value);
+      if (comparison == 0) {
+        return false; // Duplicates not allowed
+      }
+      path[depth++] = node;
+      node = comparison < 0 ? node.left : node.right;
+    }
+    insertLeaf(depth, new LongNode(value), comparison < 0);
+    return true;
+  }
+
+  /**
+   * Removes a value from the tree. A node with two children takes over the value of its in-order successor,
+   * which is unlinked instead; the path is then rebalanced bottom-up until a subtree's height no longer changes.
+   *
+   * @param value the value to remove
+   * @return {@code true} if the value was removed, {@code false} if it was not present
+   */
+  public boolean remove(long value) {
+    LongNode[] path = this.path;
+    int depth = 0;
+    LongNode node = getRoot();
+    while (node != null) {
+      int comparison = Long.compare(value, node.value);
+      if (comparison == 0) {
+        removeNode(depth, node);
+        return true;
+      }
+      path[depth++] = node;
+      node = comparison < 0 ? node.left : node.right;
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether the tree contains a value, see {@link #find(long)}.
+   *
+   * @param value the value to search for
+   * @return {@code true} if the value is present, otherwise {@code false}
+   */
+  public boolean contains(long value) {
+    return find(value) != null;
+  }
+
+  /**
+   * Searches the node holding a value by descending iteratively along the BST ordering in {@code O(log n)}.
+   *
+   * @param value the value to search for
+   * @return the node holding the value, or null if the value is not present
+   */
+  public LongNode find(long value) {
+    LongNode node = getRoot();
+    while (node != null) {
+      int comparison = Long.compare(value, node.value);
+      if (comparison < 0) {
+        node = node.left;
+      } else if (comparison > 0) {
+        node = node.right;
+      } else {
+        return node;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Counts the values that are smaller than the given value in {@code O(log n)}, like {@link AVLTree#rank(int)}.
+   *
+   * @param value the value to rank
+   * @return the number of stored values smaller than {@code value}
+   */
+  public int rank(long value) {
+    int rank = 0;
+    LongNode node = getRoot();
+    while (node != null) {
+      if (Long.compare(value, node.value) <= 0) {
+        node = node.left;
+      } else {
+        rank += size(node.left) + 1;
+        node = node.right;
+      }
+    }
+    return rank;
+  }
+
+  /**
+   * Returns the value at the given position of the sorted sequence of stored values in {@code O(log n)},
+   * like {@link AVLTree#select(int)}.
+   *
+   * @param k the zero-based position; {@code select(0)} is the minimum and {@code select(size() - 1)} the maximum
+   * @return the k-th smallest value
+   * @throws IllegalArgumentException if {@code k} is negative or not smaller than {@link #size()}
+   */
+  public long select(int k) {
+    return selectNode(k).value;
+  }
+}
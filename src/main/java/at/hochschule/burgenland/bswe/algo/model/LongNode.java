@@ -0,0 +1,25 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import lombok.Getter;
+
+/**
+ * A node of a {@link LongAVLTree}: the same layout as {@link Node}, but with an unboxed 64-bit key.
+ */
+@Getter
+public class LongNode extends PrimitiveAVLNode<LongNode> {
+  public long value;
+
+  public LongNode(long value) {
+    this.value = value;
+  }
+
+  @Override
+  protected void copyKey(LongNode source) {
+    this.value = source.value;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+}
@@ -1,14 +1,19 @@
 package at.hochschule.burgenland.bswe.algo.model;
 
-public class Node {
+import lombok.Getter;
+
+@Getter
+public class Node implements TreeNode {
   public int value;
   public int height;
+  public int size;
   public Node left;
   public Node right;
 
   public Node(int value) {
     this.value = value;
     this.height = 1;
+    this.size = 1;
   }
 
   @Override
@@ -0,0 +1,126 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import java.util.Arrays;
+
+/**
+ * A pool of {@link Node}s for a single pooled {@link AVLTree} (see {@link AVLTree#pooled(AVLTreeListener, int)}).
+ * Nodes are created in chunks up front and handed out again and again: removed nodes are chained into a free list
+ * through their left child field and are preferred for the next insertion, so a tree under sustained
+ * insert/remove churn stops allocating once its chunks cover the peak number of live nodes.
+ * {@link #reset()} makes every node available again in {@code O(1)}, without touching a single node.
+ */
+final class NodeArena {
+  private final int chunkShift;
+  private final int chunkMask;
+  private Node[][] chunks = new Node[0][];
+
+  /**
+   * Number of nodes handed out from the chunks so far; nodes at positions below this mark are either live
+   * or on the free list, nodes above it have never been used since the last reset.
+   */
+  private int used;
+
+  /**
+   * Head of the list of released nodes, which are chained through their left child field.
+   */
+  private Node freeHead;
+
+  /**
+   * Creates an empty arena that creates nodes in chunks of the given size.
+   *
+   * @param nodesPerChunk the number of nodes per chunk; must be a power of two between 1 and {@code 2^20}
+   * @throws IllegalArgumentException if {@code nodesPerChunk} is not a power of two in the allowed range
+   */
+  NodeArena(int nodesPerChunk) {
+    if (nodesPerChunk <= 0 || nodesPerChunk > (1 << 20) || Integer.bitCount(nodesPerChunk) != 1) {
+      throw new IllegalArgumentException("Nodes per chunk must be a power of two between 1 and 2^20: "
+          + nodesPerChunk);
+    }
+    this.chunkShift = Integer.numberOfTrailingZeros(nodesPerChunk);
+    this.chunkMask = nodesPerChunk - 1;
+  }
+
+  /**
+   * Returns the number of nodes per chunk.
+   *
+   * @return the chunk size in nodes
+   */
+  int nodesPerChunk() {
+    return chunkMask + 1;
+  }
+
+  /**
+   * Returns the number of nodes the arena currently owns, whether they are in use or not.
+   *
+   * @return the number of pooled nodes
+   */
+  int capacity() {
+    return chunks.length << chunkShift;
+  }
+
+  /**
+   * Hands out a node for a new leaf, preferring a released node, then an unused one and only then
+   * creating a new chunk. All fields of the node are reset as if it had been created with {@code new Node(value)}.
+   *
+   * @param value the value of the new leaf
+   * @return a leaf node holding {@code value}
+   */
+  Node allocate(int value) {
+    Node node;
+    if (freeHead != null) {
+      node = freeHead;
+      freeHead = node.left;
+    } else {
+      if (used == capacity()) {
+        grow();
+      }
+      node = chunks[used >>> chunkShift][used & chunkMask];
+      used++;
+    }
+
+    node.value = value;
+    node.height = 1;
+    node.size = 1;
+    node.left = null;
+    node.right = null;
+    return node;
+  }
+
+  /**
+   * Puts a node that has been unlinked from the tree on the free list.
+   *
+   * @param node the unlinked node; must have been handed out by this arena
+   */
+  void release(Node node) {
+    node.right = null;
+    node.left = freeHead;
+    freeHead = node;
+  }
+
+  /**
+   * Makes every node of the arena available again in {@code O(1)}. The nodes keep their old contents
+   * until they are handed out again, so no node of the previous tree may be used after a reset.
+   */
+  void reset() {
+    used = 0;
+    freeHead = null;
+  }
+
+  /**
+   * Adds one more chunk of freshly created nodes.
+   *
+   * @throws IllegalStateException if the arena already holds the maximum of {@code 2^30} nodes
+   */
+  private void grow() {
+    if ((long) (chunks.length + 1) << chunkShift > (1 << 30)) {
+      throw new IllegalStateException("Arena cannot hold more than " + capacity() + " nodes");
+    }
+
+    Node[] chunk = new Node[chunkMask + 1];
+    for (int i = 0; i < chunk.length; i++) {
+      chunk[i] = new Node(0);
+    }
+    chunks = Arrays.copyOf(chunks, chunks.length + 1);
+    chunks[chunks.length - 1] = chunk;
+  }
+}
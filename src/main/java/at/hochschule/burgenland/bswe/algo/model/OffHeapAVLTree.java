@@ -0,0 +1,142 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * An AVL tree of distinct integers whose nodes live outside the Java heap, in direct {@link ByteBuffer}s.
+ * Every node is a fixed-width record of 16 bytes (value, height, left child index, right child index),
+ * so even very large trees add no objects for the garbage collector to trace.
+ * The records are stored in equally sized chunks, because a single buffer is limited to 2 GiB;
+ * a new chunk is allocated whenever the existing ones are full.
+ * The amount of direct memory is limited by the JVM option {@code -XX:MaxDirectMemorySize}.
+ */
+public class OffHeapAVLTree extends IndexedAVLTree implements AutoCloseable {
+  private static final int NODE_BYTES = 16;
+  private static final int VALUE_OFFSET = 0;
+  private static final int HEIGHT_OFFSET = 4;
+  private static final int LEFT_OFFSET = 8;
+  private static final int RIGHT_OFFSET = 12;
+  private static final int DEFAULT_NODES_PER_CHUNK = 1 << 16;
+
+  private final int chunkShift;
+  private final int chunkMask;
+  private ByteBuffer[] chunks = new ByteBuffer[0];
+  private boolean closed;
+
+  /**
+   * Creates an empty tree that allocates off-heap memory in chunks of 1 MiB (65536 nodes).
+   */
+  public OffHeapAVLTree() {
+    this(DEFAULT_NODES_PER_CHUNK);
+  }
+
+  /**
+   * Creates an empty tree that allocates off-heap memory in chunks of the given number of nodes.
+   *
+   * @param nodesPerChunk the number of nodes per chunk; must be a power of two between 1 and {@code 2^26}
+   * @throws IllegalArgumentException if {@code nodesPerChunk} is not a power of two in the allowed range
+   */
+  public OffHeapAVLTree(int nodesPerChunk) {
+    if (nodesPerChunk <= 0 || nodesPerChunk > (1 << 26) || Integer.bitCount(nodesPerChunk) != 1) {
+      throw new IllegalArgumentException("Nodes per chunk must be a power of two between 1 and 2^26: "
+          + nodesPerChunk);
+    }
+    this.chunkShift = Integer.numberOfTrailingZeros(nodesPerChunk);
+    this.chunkMask = nodesPerChunk - 1;
+  }
+
+  @Override
+  public int capacity() {
+    return chunks.length << chunkShift;
+  }
+
+  /**
+   * Returns the number of bytes of direct memory currently reserved by this tree.
+   *
+   * @return the off-heap memory in bytes, or 0 once the tree has been closed
+   */
+  public long offHeapBytes() {
+    return (long) capacity() * NODE_BYTES;
+  }
+
+  /**
+   * Releases the off-heap memory of this tree. The tree cannot be modified afterwards.
+   * Java 17 offers no API to free a direct buffer immediately, so the memory is returned
+   * as soon as the garbage collector clears the dropped buffers; closing twice has no effect.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    chunks = new ByteBuffer[0];
+    reset();
+  }
+
+  /**
+   * Adds one more chunk of direct memory.
+   *
+   * @throws IllegalStateException if the tree has been closed or has reached the maximum of {@code 2^31} nodes
+   */
+  @Override
+  protected void grow() {
+    if (closed) {
+      throw new IllegalStateException("Tree has been closed");
+    }
+    if ((long) (chunks.length + 1) << chunkShift > Integer.MAX_VALUE) {
+      throw new IllegalStateException("Tree cannot hold more than " + capacity() + " nodes");
+    }
+
+    chunks = Arrays.copyOf(chunks, chunks.length + 1);
+    chunks[chunks.length - 1] = ByteBuffer.allocateDirect((chunkMask + 1) * NODE_BYTES)
+        .order(ByteOrder.nativeOrder());
+  }
+
+  @Override
+  protected int value(int node) {
+    return chunk(node).getInt(offset(node) + VALUE_OFFSET);
+  }
+
+  @Override
+  protected void setValue(int node, int value) {
+    chunk(node).putInt(offset(node) + VALUE_OFFSET, value);
+  }
+
+  @Override
+  protected int left(int node) {
+    return chunk(node).getInt(offset(node) + LEFT_OFFSET);
+  }
+
+  @Override
+  protected void setLeft(int node, int child) {
+    chunk(node).putInt(offset(node) + LEFT_OFFSET, child);
+  }
+
+  @Override
+  protected int right(int node) {
+    return chunk(node).getInt(offset(node) + RIGHT_OFFSET);
+  }
+
+  @Override
+  protected void setRight(int node, int child) {
+    chunk(node).putInt(offset(node) + RIGHT_OFFSET, child);
+  }
+
+  @Override
+  protected int height(int node) {
+    return chunk(node).getInt(offset(node) + HEIGHT_OFFSET);
+  }
+
+  @Override
+  protected void setHeight(int node, int height) {
+    chunk(node).putInt(offset(node) + HEIGHT_OFFSET, height);
+  }
+
+  private ByteBuffer chunk(int node) {
+    return chunks[node >>> chunkShift];
+  }
+
+  private int offset(int node) {
+    return (node & chunkMask) * NODE_BYTES;
+  }
+}
@@ -0,0 +1,251 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+/**
+ * A persistent AVL tree of distinct integers: a {@link Node} is never modified once it is reachable from a root.
+ * Inserting or removing a value copies only the {@code O(log n)} nodes on the modified path (plus the nodes
+ * touched by rotations) and shares every other subtree with the previous version, then publishes the new root.
+ * Every root therefore stays a consistent, immutable version of the tree, so {@link #snapshot()} is {@code O(1)}
+ * and readers can traverse a snapshot without any locking while a writer keeps going.
+ * Old versions are reclaimed by the garbage collector once no snapshot refers to them any more.
+ * Writers are serialized on the tree; readers never block.
+ */
+public class PersistentAVLTree implements IntTree {
+  private volatile Node root;
+
+  /**
+   * Creates an empty persistent AVL tree.
+   */
+  public PersistentAVLTree() {
+  }
+
+  private PersistentAVLTree(Node root) {
+    this.root = root;
+  }
+
+  /**
+   * Returns a point-in-time view of this tree in {@code O(1)}. The snapshot is itself a persistent tree:
+   * it never observes later changes to this tree, and changes made to it do not affect this tree.
+   *
+   * @return a snapshot of the current version
+   */
+  public PersistentAVLTree snapshot() {
+    return new PersistentAVLTree(root);
+  }
+
+  @Override
+  public void insert(int value) {
+    add(value);
+  }
+
+  /**
+   * Inserts a value by copying the path from the root to the new leaf and publishing the new root.
+   *
+   * @param value the integer value to insert
+   * @return {@code true} if the value was inserted, {@code false} if it was already present
+   */
+  @Override
+  public synchronized boolean add(int value) {
+    Node current = root;
+    Node updated = insert(current, value);
+    if (updated == current) {
+      return false;
+    }
+    root = updated;
+    return true;
+  }
+
+  /**
+   * Removes a value by copying the path from the root to the removed node and publishing the new root.
+   *
+   * @param value the integer value to remove
+   * @return {@code true} if the value was removed, {@code false} if it was not present
+   */
+  @Override
+  public synchronized boolean remove(int value) {
+    Node current = root;
+    Node updated = remove(current, value);
+    if (updated == current) {
+      return false;
+    }
+    root = updated;
+    return true;
+  }
+
+  @Override
+  public boolean contains(int value) {
+    Node node = root;
+    while (node != null) {
+      if (value < node.value) {
+        node = node.left;
+      } else if (value > node.value) {
+        node = node.right;
+      } else {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public int size() {
+    Node current = root;
+    return current == null ? 0 : current.size;
+  }
+
+  /**
+   * Returns the root of the current version. This tree never modifies the returned nodes,
+   * so the root can be traversed safely while other threads keep writing to this tree. The guarantee only
+   * holds for read-only traversals: traversals that temporarily rewrite pointers, like
+   * {@link at.hochschule.burgenland.bswe.algo.traversal.TreeTraverser#traverseMorris(Node, String)},
+   * must not be used on it, as other readers may share the same nodes.
+   *
+   * @return the root node, or null if the tree is empty
+   */
+  @Override
+  public Node getRoot() {
+    return root;
+  }
+
+  /**
+   * Inserts a value into a subtree without modifying any of its nodes.
+   *
+   * @param node  the root of the subtree; may be null
+   * @param value the integer value to insert
+   * @return the root of the new version of the subtree, or {@code node} itself if the value was already present
+   */
+  private static Node insert(Node node, int value) {
+    if (node == null) {
+      return new Node(value);
+    }
+
+    if (value < node.value) {
+      Node left = insert(node.left, value);
+      return left == node.left ? node : rebalance(copy(node, left, node.right));
+    } else if (value > node.value) {
+      Node right = insert(node.right, value);
+      return right == node.right ? node : rebalance(copy(node, node.left, right));
+    }
+    return node; // Duplicates not allowed
+  }
+
+  /**
+   * Removes a value from a subtree without modifying any of its nodes.
+   *
+   * @param node  the root of the subtree; may be null
+   * @param value the integer value to remove
+   * @return the root of the new version of the subtree, or {@code node} itself if the value was not present
+   */
+  private static Node remove(Node node, int value) {
+    if (node == null) {
+      return null;
+    }
+
+    if (value < node.value) {
+      Node left = remove(node.left, value);
+      return left == node.left ? node : rebalance(copy(node, left, node.right));
+    } else if (value > node.value) {
+      Node right = remove(node.right, value);
+      return right == node.right ? node : rebalance(copy(node, node.left, right));
+    }
+
+    if (node.left == null) {
+      return node.right;
+    }
+    if (node.right == null) {
+      return node.left;
+    }
+
+    Node successor = node.right;
+    while (successor.left != null) {
+      successor = successor.left;
+    }
+    Node replacement = new Node(successor.value);
+    replacement.left = node.left;
+    replacement.right = remove(node.right, successor.value);
+    update(replacement);
+    return rebalance(replacement);
+  }
+
+  /**
+   * Restores the AVL balance of a freshly copied node with the usual single and double rotations.
+   * Children that take part in a rotation are copied first, so shared nodes are never modified.
+   *
+   * @param node a node that is not yet reachable from any published root
+   * @return the root of the balanced subtree
+   */
+  private static Node rebalance(Node node) {
+    int balance = height(node.left) - height(node.right);
+    if (balance > 1) {
+      if (height(node.left.left) < height(node.left.right)) {
+        node.left = rotateLeft(copy(node.left, node.left.left, node.left.right));
+      }
+      return rotateRight(node);
+    }
+    if (balance < -1) {
+      if (height(node.right.right) < height(node.right.left)) {
+        node.right = rotateRight(copy(node.right, node.right.left, node.right.right));
+      }
+      return rotateLeft(node);
+    }
+    return node;
+  }
+
+  /**
+   * Rotates an unpublished node to the right; its (possibly shared) left child is replaced by a copy.
+   *
+   * @param y the unpublished root of the subtree to rotate
+   * @return the new root of the rotated subtree
+   */
+  private static Node rotateRight(Node y) {
+    Node x = copy(y.left, y.left.left, y.left.right);
+    y.left = x.right;
+    x.right = y;
+    update(y);
+    update(x);
+    return x;
+  }
+
+  /**
+   * Rotates an unpublished node to the left; its (possibly shared) right child is replaced by a copy.
+   *
+   * @param x the unpublished root of the subtree to rotate
+   * @return the new root of the rotated subtree
+   */
+  private static Node rotateLeft(Node x) {
+    Node y = copy(x.right, x.right.left, x.right.right);
+    x.right = y.left;
+    y.left = x;
+    update(x);
+    update(y);
+    return y;
+  }
+
+  /**
+   * Creates a new node with the value of an existing one and the given children.
+   *
+   * @param node  the node to copy
+   * @param left  the left child of the copy
+   * @param right the right child of the copy
+   * @return the unpublished copy with up-to-date height and size
+   */
+  private static Node copy(Node node, Node left, Node right) {
+    Node copy = new Node(node.value);
+    copy.left = left;
+    copy.right = right;
+    update(copy);
+    return copy;
+  }
+
+  private static void update(Node node) {
+    node.height = 1 + Math.max(height(node.left), height(node.right));
+    node.size = 1 + size(node.left) + size(node.right);
+  }
+
+  private static int height(Node node) {
+    return node == null ? 0 : node.height;
+  }
+
+  private static int size(Node node) {
+    return node == null ? 0 : node.size;
+  }
+}
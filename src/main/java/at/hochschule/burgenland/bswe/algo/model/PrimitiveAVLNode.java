@@ -0,0 +1,30 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import lombok.Getter;
+
+/**
+ * Base class for the nodes of a {@link PrimitiveAVLTree}: the height, the subtree size and the links of a
+ * {@link Node}. Subclasses add an unboxed key of their primitive type, e.g. {@link LongNode} or {@link DoubleNode}.
+ *
+ * @param <N> the concrete node type
+ */
+@Getter
+public abstract class PrimitiveAVLNode<N extends PrimitiveAVLNode<N>> {
+  public int height;
+  public int size;
+  public N left;
+  public N right;
+
+  protected PrimitiveAVLNode() {
+    this.height = 1;
+    this.size = 1;
+  }
+
+  /**
+   * Replaces the key of this node with the key of another node, e.g. when a removed node with two children
+   * takes over the key of its in-order successor.
+   *
+   * @param source the node whose key is copied
+   */
+  protected abstract void copyKey(N source);
+}
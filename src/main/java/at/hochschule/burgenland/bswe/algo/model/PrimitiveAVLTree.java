@@ -0,0 +1,242 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import lombok.Getter;
+
+/**
+ * Base class for AVL trees of distinct keys of a primitive type other than {@code int}, stored unboxed in
+ * {@link PrimitiveAVLNode}s ({@link LongAVLTree}, {@link DoubleAVLTree}). Subclasses only implement what depends on
+ * the key type: the descents that compare keys. They record the visited nodes on {@link #path} and hand over to
+ * {@link #insertLeaf(int, PrimitiveAVLNode, boolean)} and {@link #removeNode(int, PrimitiveAVLNode)}, which update
+ * the subtree sizes and rebalance bottom-up with exactly the same iterative algorithms and rotations as
+ * {@link AVLTree#add(int)} and {@link AVLTree#remove(int)}. A tree fed the same operations as an {@link AVLTree}
+ * therefore has the same shape.
+ *
+ * @param <N> the node type
+ */
+public abstract class PrimitiveAVLTree<N extends PrimitiveAVLNode<N>> {
+  /**
+   * Upper bound for the height of an AVL tree that fits into memory, used to size the path stack.
+   */
+  protected static final int MAX_HEIGHT = 64;
+
+  @Getter
+  private N root;
+
+  /**
+   * Reusable stack of the nodes visited on the way down by the descents of the subclasses, root first.
+   */
+  protected final N[] path;
+
+  /**
+   * Creates an empty tree.
+   *
+   * @param path the path stack, with room for {@link #MAX_HEIGHT} nodes
+   */
+  protected PrimitiveAVLTree(N[] path) {
+    this.path = path;
+  }
+
+  /**
+   * Returns the number of keys stored in the tree in {@code O(1)}.
+   *
+   * @return the number of keys
+   */
+  public int size() {
+    return size(root);
+  }
+
+  /**
+   * Removes all keys from the tree in {@code O(1)}.
+   */
+  public void clear() {
+    root = null;
+  }
+
+  /**
+   * Links a new leaf below the last node on the path stack (or as the root if the path is empty), then rebalances
+   * bottom-up until a subtree's height no longer changes or a rotation was performed.
+   *
+   * @param depth the number of ancestors of the leaf; they are stored on {@link #path} at {@code 0..depth - 1}
+   * @param leaf  the new leaf
+   * @param left  whether the leaf becomes the left child of its parent
+   */
+  protected final void insertLeaf(int depth, N leaf, boolean left) {
+    N[] path = this.path;
+    if (depth == 0) {
+      root = leaf;
+      return;
+    }
+    if (left) {
+      path[depth - 1].left = leaf;
+    } else {
+      path[depth - 1].right = leaf;
+    }
+    for (int i = 0; i < depth; i++) {
+      path[i].size++;
+    }
+
+    for (int i = depth - 1; i >= 0; i--) {
+      N node = path[i];
+      int leftHeight = height(node.left);
+      int rightHeight = height(node.right);
+      int balance = leftHeight - rightHeight;
+
+      // The child that grew is never balanced, so its balance tells whether the leaf went to its inner subtree
+      N subtree;
+      if (balance > 1) {
+        if (getBalance(node.left) < 0) {
+          node.left = rotateLeft(node.left);
+        }
+        subtree = rotateRight(node);
+      } else if (balance < -1) {
+        if (getBalance(node.right) > 0) {
+          node.right = rotateRight(node.right);
+        }
+        subtree = rotateLeft(node);
+      } else {
+        int newHeight = 1 + Math.max(leftHeight, rightHeight);
+        if (node.height == newHeight) {
+          break;
+        }
+        node.height = newHeight;
+        continue;
+      }
+
+      // A rotation restores the subtree's height from before the insertion, so the ancestors are unaffected
+      replaceChild(i, node, subtree);
+      break;
+    }
+  }
+
+  /**
+   * Removes a node that was reached via the path stack. A node with two children takes over the key of its in-order
+   * successor, which is unlinked instead; the path is then rebalanced bottom-up until a subtree's height no longer
+   * changes.
+   *
+   * @param depth the number of ancestors of the node; they are stored on {@link #path} at {@code 0..depth - 1}
+   * @param node  the node to remove
+   */
+  protected final void removeNode(int depth, N node) {
+    N[] path = this.path;
+    if (node.left != null && node.right != null) {
+      path[depth++] = node;
+      N successor = node.right;
+      while (successor.left != null) {
+        path[depth++] = successor;
+        successor = successor.left;
+      }
+      node.copyKey(successor);
+      node = successor;
+    }
+
+    for (int i = 0; i < depth; i++) {
+      path[i].size--;
+    }
+    replaceChild(depth, node, node.left != null ? node.left : node.right);
+
+    for (int i = depth - 1; i >= 0; i--) {
+      node = path[i];
+      int oldHeight = node.height;
+      int balance = getBalance(node);
+
+      N subtree = node;
+      if (balance > 1) {
+        if (getBalance(node.left) < 0) {
+          node.left = rotateLeft(node.left);
+        }
+        subtree = rotateRight(node);
+        replaceChild(i, node, subtree);
+      } else if (balance < -1) {
+        if (getBalance(node.right) > 0) {
+          node.right = rotateRight(node.right);
+        }
+        subtree = rotateLeft(node);
+        replaceChild(i, node, subtree);
+      } else {
+        update(node);
+      }
+
+      if (subtree.height == oldHeight) {
+        break;
+      }
+    }
+  }
+
+  /**
+   * Returns the node at the given position of the sorted sequence of keys in {@code O(log n)}, using the subtree
+   * sizes along a single root-to-leaf path.
+   *
+   * @param k the zero-based position; position 0 holds the smallest key
+   * @return the node holding the k-th smallest key
+   * @throws IllegalArgumentException if {@code k} is negative or not smaller than {@link #size()}
+   */
+  protected final N selectNode(int k) {
+    if (k < 0 || k >= size()) {
+      throw new IllegalArgumentException("Position " + k + " is out of range for a tree of size " + size());
+    }
+
+    N node = root;
+    while (true) {
+      int leftSize = size(node.left);
+      if (k < leftSize) {
+        node = node.left;
+      } else if (k > leftSize) {
+        k -= leftSize + 1;
+        node = node.right;
+      } else {
+        return node;
+      }
+    }
+  }
+
+  private void replaceChild(int depth, N node, N subtree) {
+    if (depth == 0) {
+      root = subtree;
+    } else if (path[depth - 1].left == node) {
+      path[depth - 1].left = subtree;
+    } else {
+      path[depth - 1].right = subtree;
+    }
+  }
+
+  private N rotateRight(N y) {
+    N x = y.left;
+    y.left = x.right;
+    x.right = y;
+    update(y);
+    update(x);
+    return x;
+  }
+
+  private N rotateLeft(N x) {
+    N y = x.right;
+    x.right = y.left;
+    y.left = x;
+    update(x);
+    update(y);
+    return y;
+  }
+
+  private void update(N node) {
+    node.height = 1 + Math.max(height(node.left), height(node.right));
+    node.size = 1 + size(node.left) + size(node.right);
+  }
+
+  private int getBalance(N node) {
+    return height(node.left) - height(node.right);
+  }
+
+  private int height(N node) {
+    return node == null ? 0 : node.height;
+  }
+
+  /**
+   * Returns the number of keys in a subtree.
+   *
+   * @param node the root of the subtree; may be null
+   * @return the stored subtree size, 0 for an empty subtree
+   */
+  protected final int size(N node) {
+    return node == null ? 0 : node.size;
+  }
+}
@@ -0,0 +1,16 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import lombok.Getter;
+
+/**
+ * A node of a {@link RedBlackTree}, which stores its color instead of its height. New nodes are red.
+ */
+@Getter
+public class RedBlackNode extends LinkedTreeNode<RedBlackNode> {
+  public boolean red;
+
+  public RedBlackNode(int value) {
+    super(value);
+    this.red = true;
+  }
+}
@@ -0,0 +1,152 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+/**
+ * A red-black tree of distinct integers. Every node is red or black ({@link RedBlackNode}), the root is black,
+ * a red node has no red child, and every path from a node down to a missing child passes the same number of
+ * black nodes. This allows a height of up to {@code 2 log2(n + 1)}, taller than an AVL tree, but an insertion
+ * needs at most two rotations and a removal at most three; most fixes are recolorings.
+ * Like {@link AVLTree#add(int)}, insertion and removal are iterative and use a fixed-size path stack,
+ * see {@link LinkedBalancedTree}.
+ */
+public class RedBlackTree extends LinkedBalancedTree<RedBlackNode> {
+
+  /**
+   * Creates an empty red-black tree.
+   */
+  public RedBlackTree() {
+    super(new RedBlackNode[MAX_HEIGHT]);
+  }
+
+  /**
+   * Creates a new red leaf.
+   *
+   * @param value the value of the node
+   * @return the new node
+   */
+  @Override
+  protected RedBlackNode newNode(int value) {
+    return new RedBlackNode(value);
+  }
+
+  /**
+   * Rebalances after an insertion: while the new node and its parent are both red, a red uncle is fixed by
+   * recoloring, which moves the violation two levels up; a black uncle is fixed by one single or double rotation.
+   * Finally, the root is colored black.
+   *
+   * @param depth the number of ancestors of the leaf on the path stack
+   * @param leaf  the new leaf
+   */
+  @Override
+  protected void rebalanceAfterInsert(int depth, RedBlackNode leaf) {
+    RedBlackNode[] path = this.path;
+    RedBlackNode child = leaf;
+
+    // A red parent is never the root, so it always has a parent itself
+    int i = depth - 1;
+    while (i >= 0 && path[i].red) {
+      RedBlackNode parent = path[i];
+      RedBlackNode grandparent = path[i - 1];
+      RedBlackNode uncle = grandparent.left == parent ? grandparent.right : grandparent.left;
+      if (isRed(uncle)) {
+        parent.red = false;
+        uncle.red = false;
+        grandparent.red = true;
+        child = grandparent;
+        i -= 2;
+        continue;
+      }
+
+      RedBlackNode subtree;
+      if (grandparent.left == parent) {
+        if (parent.right == child) {
+          grandparent.left = rotateLeft(parent);
+          parent = child;
+        }
+        subtree = rotateRight(grandparent);
+      } else {
+        if (parent.left == child) {
+          grandparent.right = rotateRight(parent);
+          parent = child;
+        }
+        subtree = rotateLeft(grandparent);
+      }
+      parent.red = false;
+      grandparent.red = true;
+      replaceChild(i - 1, grandparent, subtree);
+      break;
+    }
+    getRoot().red = false;
+  }
+
+  /**
+   * Rebalances after a removal: unlinking a black node leaves its replacement one black node short;
+   * this is fixed by recoloring, which may propagate upwards, and at most three rotations.
+   *
+   * @param depth   the number of ancestors of the unlinked node on the path stack
+   * @param removed the unlinked node
+   * @param child   the child that took its place; may be null
+   */
+  @Override
+  protected void rebalanceAfterRemove(int depth, RedBlackNode removed, RedBlackNode child) {
+    if (removed.red) {
+      return;
+    }
+    if (isRed(child)) {
+      child.red = false;
+      return;
+    }
+
+    // The child is "double black"; the sibling of a double black node always exists
+    RedBlackNode[] path = this.path;
+    int i = depth - 1;
+    while (i >= 0) {
+      RedBlackNode parent = path[i];
+      boolean leftChild = parent.left == child;
+      RedBlackNode sibling = leftChild ? parent.right : parent.left;
+      if (sibling.red) {
+        // Rotate the red sibling above the parent, which then has a black sibling below it
+        sibling.red = false;
+        parent.red = true;
+        replaceChild(i, parent, leftChild ? rotateLeft(parent) : rotateRight(parent));
+        path[i] = sibling;
+        path[++i] = parent;
+        sibling = leftChild ? parent.right : parent.left;
+      }
+
+      if (!isRed(sibling.left) && !isRed(sibling.right)) {
+        sibling.red = true;
+        if (parent.red) {
+          parent.red = false;
+          break;
+        }
+        child = parent;
+        i--;
+        continue;
+      }
+
+      if (leftChild) {
+        if (!isRed(sibling.right)) {
+          sibling.left.red = false;
+          sibling.red = true;
+          sibling = parent.right = rotateRight(sibling);
+        }
+        sibling.right.red = false;
+      } else {
+        if (!isRed(sibling.left)) {
+          sibling.right.red = false;
+          sibling.red = true;
+          sibling = parent.left = rotateLeft(sibling);
+        }
+        sibling.left.red = false;
+      }
+      sibling.red = parent.red;
+      parent.red = false;
+      replaceChild(i, parent, leftChild ? rotateLeft(parent) : rotateRight(parent));
+      break;
+    }
+  }
+
+  private static boolean isRed(RedBlackNode node) {
+    return node != null && node.red;
+  }
+}
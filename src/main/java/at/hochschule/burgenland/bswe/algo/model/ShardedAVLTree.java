@@ -0,0 +1,315 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import at.hochschule.burgenland.bswe.algo.traversal.TreeTraverser;
+
+/**
+ * A forest of {@link AVLTree}s that splits the int key space into consecutive key ranges, one tree (shard) per range.
+ * Shard {@code i} holds the keys {@code k} with {@code splitters[i - 1] <= k < splitters[i]}, so the shards are
+ * ordered and their in-order traversals can simply be concatenated. Every shard is guarded by its own monitor,
+ * so operations on different shards never contend, and {@link #addAll(int[])} inserts into all shards in parallel
+ * on a {@link ForkJoinPool}. The splitters are fixed at construction: either evenly spaced over the int range
+ * or chosen from a sample of the expected keys, which balances the shards for skewed key distributions.
+ */
+public class ShardedAVLTree {
+  private final int[] splitters;
+  private final AVLTree[] shards;
+  private final ForkJoinPool pool;
+
+  /**
+   * Creates a forest whose shards cover equally wide ranges of the int key space and which ingests
+   * on the common {@link ForkJoinPool}.
+   *
+   * @param shardCount the number of shards; must be positive
+   * @throws IllegalArgumentException if {@code shardCount} is not positive
+   */
+  public ShardedAVLTree(int shardCount) {
+    this(shardCount, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a forest whose shards cover equally wide ranges of the int key space.
+   *
+   * @param shardCount the number of shards; must be positive
+   * @param pool       the pool used for parallel ingestion; cannot be null
+   * @throws IllegalArgumentException if {@code shardCount} is not positive or {@code pool} is null
+   */
+  public ShardedAVLTree(int shardCount, ForkJoinPool pool) {
+    this(evenSplitters(shardCount), pool);
+  }
+
+  private ShardedAVLTree(int[] splitters, ForkJoinPool pool) {
+    if (pool == null) {
+      throw new IllegalArgumentException("Pool cannot be null");
+    }
+    this.splitters = splitters;
+    this.shards = new AVLTree[splitters.length + 1];
+    for (int i = 0; i < shards.length; i++) {
+      shards[i] = new AVLTree();
+    }
+    this.pool = pool;
+  }
+
+  /**
+   * Creates a forest whose splitters are the quantiles of a sample of the expected keys, so that every shard
+   * receives roughly the same number of keys. If the sample has fewer distinct values than requested shards,
+   * fewer shards are created.
+   *
+   * @param sample     a sample of the keys that will be inserted; cannot be null or empty, is not modified
+   * @param shardCount the requested number of shards; must be positive
+   * @param pool       the pool used for parallel ingestion; cannot be null
+   * @return a new, empty forest with sample-based key ranges
+   * @throws IllegalArgumentException if {@code sample} is null or empty, {@code shardCount} is not positive
+   *                                  or {@code pool} is null
+   */
+  public static ShardedAVLTree fromSample(int[] sample, int shardCount, ForkJoinPool pool) {
+    if (sample == null || sample.length == 0) {
+      throw new IllegalArgumentException("Sample cannot be null or empty");
+    }
+    if (shardCount <= 0) {
+      throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+    }
+
+    int[] sorted = sample.clone();
+    Arrays.sort(sorted);
+    int[] candidates = new int[shardCount - 1];
+    int count = 0;
+    for (int i = 1; i < shardCount; i++) {
+      int splitter = sorted[(int) ((long) i * sorted.length / shardCount)];
+      // Splitters must be strictly ascending and a splitter equal to MIN_VALUE would leave shard 0 empty
+      if (splitter != Integer.MIN_VALUE && (count == 0 || splitter > candidates[count - 1])) {
+        candidates[count++] = splitter;
+      }
+    }
+    return new ShardedAVLTree(Arrays.copyOf(candidates, count), pool);
+  }
+
+  /**
+   * Inserts a value into the shard responsible for it.
+   *
+   * @param value the integer value to insert
+   * @return {@code true} if the value was inserted, {@code false} if it was already present
+   */
+  public boolean add(int value) {
+    AVLTree shard = shards[shardOf(value)];
+    synchronized (shard) {
+      return shard.add(value);
+    }
+  }
+
+  /**
+   * Inserts all given values, with one fork-join task per shard running in parallel.
+   * The values are first partitioned by shard in two linear passes; each task then inserts
+   * its partition while holding only the monitor of its own shard.
+   *
+   * @param values the values to insert; cannot be null
+   * @return the number of values that were actually inserted (i.e. not already present)
+   * @throws IllegalArgumentException if {@code values} is null
+   */
+  public int addAll(int[] values) {
+    if (values == null) {
+      throw new IllegalArgumentException("Values array cannot be null");
+    }
+
+    int[] shardIndices = new int[values.length];
+    int[] counts = new int[shards.length];
+    for (int i = 0; i < values.length; i++) {
+      shardIndices[i] = shardOf(values[i]);
+      counts[shardIndices[i]]++;
+    }
+
+    int[][] partitions = new int[shards.length][];
+    for (int shard = 0; shard < shards.length; shard++) {
+      partitions[shard] = new int[counts[shard]];
+      counts[shard] = 0;
+    }
+    for (int i = 0; i < values.length; i++) {
+      int shard = shardIndices[i];
+      partitions[shard][counts[shard]++] = values[i];
+    }
+
+    List<InsertTask> tasks = new ArrayList<>();
+    for (int shard = 0; shard < shards.length; shard++) {
+      if (partitions[shard].length > 0) {
+        tasks.add(new InsertTask(shards[shard], partitions[shard]));
+      }
+    }
+    return pool.invoke(new RecursiveTask<Integer>() {
+      @Override
+      protected Integer compute() {
+        int inserted = 0;
+        for (InsertTask task : invokeAll(tasks)) {
+          inserted += task.join();
+        }
+        return inserted;
+      }
+    });
+  }
+
+  /**
+   * Removes a value from the shard responsible for it.
+   *
+   * @param value the integer value to remove
+   * @return {@code true} if the value was removed, {@code false} if it was not present
+   */
+  public boolean remove(int value) {
+    AVLTree shard = shards[shardOf(value)];
+    synchronized (shard) {
+      return shard.remove(value);
+    }
+  }
+
+  /**
+   * Checks whether the forest contains a value.
+   *
+   * @param value the integer value to search for
+   * @return {@code true} if the value is present, otherwise {@code false}
+   */
+  public boolean contains(int value) {
+    AVLTree shard = shards[shardOf(value)];
+    synchronized (shard) {
+      return shard.contains(value);
+    }
+  }
+
+  /**
+   * Returns the number of values stored in all shards.
+   *
+   * @return the total number of values
+   */
+  public int size() {
+    int size = 0;
+    for (AVLTree shard : shards) {
+      synchronized (shard) {
+        size += shard.size();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Returns the number of shards of this forest.
+   *
+   * @return the number of shards
+   */
+  public int shardCount() {
+    return shards.length;
+  }
+
+  /**
+   * Traverses every shard in the given order and concatenates the results in shard order.
+   * Because the shards cover ascending key ranges, the concatenated in-order traversal is the sorted
+   * sequence of all values; for the other orders, the result is the sequence of per-shard traversals.
+   *
+   * @param order the traversal order, see {@link TreeTraverser#traverse(TreeNode, String)}
+   * @return the concatenated traversals of all shards
+   * @throws IllegalArgumentException if {@code order} is not a valid traversal order
+   */
+  public int[] traverse(String order) {
+    int[][] parts = new int[shards.length][];
+    int length = 0;
+    for (int shard = 0; shard < shards.length; shard++) {
+      parts[shard] = traverseShard(shard, order);
+      length += parts[shard].length;
+    }
+
+    int[] result = new int[length];
+    int offset = 0;
+    for (int[] part : parts) {
+      System.arraycopy(part, 0, result, offset, part.length);
+      offset += part.length;
+    }
+    return result;
+  }
+
+  /**
+   * Traverses a single shard in the given order.
+   *
+   * @param shard the index of the shard, from 0 to {@link #shardCount()} - 1
+   * @param order the traversal order, see {@link TreeTraverser#traverse(TreeNode, String)}
+   * @return the values of the shard in traversal order
+   * @throws IllegalArgumentException if {@code shard} is out of range or {@code order} is not a valid traversal order
+   */
+  public int[] traverseShard(int shard, String order) {
+    if (shard < 0 || shard >= shards.length) {
+      throw new IllegalArgumentException("Shard " + shard + " is out of range for " + shards.length + " shards");
+    }
+
+    synchronized (shards[shard]) {
+      return TreeTraverser.traverse(shards[shard].getRoot(), order);
+    }
+  }
+
+  /**
+   * Finds the shard responsible for a value by binary search over the splitters.
+   *
+   * @param value the value to locate
+   * @return the index of the shard whose key range contains {@code value}
+   */
+  private int shardOf(int value) {
+    int low = 0;
+    int high = splitters.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (splitters[mid] <= value) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Computes splitters that divide the int key space into equally wide ranges.
+   *
+   * @param shardCount the number of ranges; must be positive
+   * @return the {@code shardCount - 1} ascending splitters
+   * @throws IllegalArgumentException if {@code shardCount} is not positive
+   */
+  private static int[] evenSplitters(int shardCount) {
+    if (shardCount <= 0) {
+      throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+    }
+
+    long width = (1L << 32) / shardCount;
+    int[] splitters = new int[shardCount - 1];
+    for (int i = 1; i < shardCount; i++) {
+      splitters[i - 1] = (int) (Integer.MIN_VALUE + i * width);
+    }
+    return splitters;
+  }
+
+  /**
+   * Inserts one partition of values into its shard.
+   */
+  private static final class InsertTask extends RecursiveTask<Integer> {
+    private static final long serialVersionUID = 1L;
+
+    private final AVLTree shard;
+    private final int[] values;
+
+    private InsertTask(AVLTree shard, int[] values) {
+      this.shard = shard;
+      this.values = values;
+    }
+
+    @Override
+    protected Integer compute() {
+      int inserted = 0;
+      synchronized (shard) {
+        for (int value : values) {
+          if (shard.add(value)) {
+            inserted++;
+          }
+        }
+      }
+      return inserted;
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+/**
+ * A read-only view of a node in a binary tree of integers.
+ * Traversal and printing utilities work on this interface, so they can handle object-based trees
+ * ({@link Node}) as well as trees that store their nodes in other layouts (e.g. {@link IntArrayAVLTree}).
+ */
+public interface TreeNode {
+
+  /**
+   * Returns the value stored in this node.
+   *
+   * @return the node's value
+   */
+  int getValue();
+
+  /**
+   * Returns the height of the subtree rooted at this node, where a leaf has height 1. Nodes that store their
+   * height (e.g. {@link Node} or the nodes of {@link IntArrayAVLTree}) return it in {@code O(1)}; nodes that store
+   * other balance information instead ({@link LinkedTreeNode}: {@link WAVLNode}, {@link RedBlackNode}) compute it in
+   * {@code O(size of the subtree)}, so generic code should not call this for every node of such a tree.
+   *
+   * @return the node's height
+   */
+  int getHeight();
+
+  /**
+   * Returns the left child of this node.
+   *
+   * @return the left child, or null if there is none
+   */
+  TreeNode getLeft();
+
+  /**
+   * Returns the right child of this node.
+   *
+   * @return the right child, or null if there is none
+   */
+  TreeNode getRight();
+
+  /**
+   * Returns how often the value of this node occurs. Only nodes of multisets
+   * (see {@link AVLTree#multiset()}) can hold a value more than once.
+   *
+   * @return the number of occurrences of the node's value, at least 1
+   */
+  default int getCount() {
+    return 1;
+  }
+}
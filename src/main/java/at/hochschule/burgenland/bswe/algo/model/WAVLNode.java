@@ -0,0 +1,16 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+import lombok.Getter;
+
+/**
+ * A node of a {@link WAVLTree}. Instead of its height, it stores its rank: a leaf has rank 0, and the rank
+ * of a node exceeds the rank of each child by 1 or 2, where a missing child has rank -1.
+ */
+@Getter
+public class WAVLNode extends LinkedTreeNode<WAVLNode> {
+  public int rank;
+
+  public WAVLNode(int value) {
+    super(value);
+  }
+}
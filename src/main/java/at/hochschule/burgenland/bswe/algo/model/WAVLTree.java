@@ -0,0 +1,148 @@
+package at.hochschule.burgenland.bswe.algo.model;
+
+/**
+ * A weak AVL (WAVL) tree of distinct integers, as described by Haeupler, Sen and Tarjan in "Rank-Balanced Trees".
+ * Every node stores a rank ({@link WAVLNode}); the rank difference between a node and its parent is 1 or 2,
+ * and every leaf has rank 0. A tree built by insertions only is exactly an AVL tree and is rebalanced with the same
+ * rotations. Unlike an AVL tree, a node may have two 2-children, so a removal needs at most two rotations and
+ * usually stops after a few demotions; the height stays below {@code 2 log2 n}.
+ * Like {@link AVLTree#add(int)}, insertion and removal are iterative and use a fixed-size path stack,
+ * see {@link LinkedBalancedTree}.
+ */
+public class WAVLTree extends LinkedBalancedTree<WAVLNode> {
+
+  /**
+   * Creates an empty WAVL tree.
+   */
+  public WAVLTree() {
+    super(new WAVLNode[MAX_HEIGHT]);
+  }
+
+  /**
+   * Creates a new leaf of rank 0.
+   *
+   * @param value the value of the node
+   * @return the new node
+   */
+  @Override
+  protected WAVLNode newNode(int value) {
+    return new WAVLNode(value);
+  }
+
+  /**
+   * Rebalances after an insertion: if the parent of the new leaf was a leaf as well, the parent is promoted,
+   * which may propagate upwards; the propagation ends with at most one single or double rotation.
+   *
+   * @param depth the number of ancestors of the leaf on the path stack
+   * @param leaf  the new leaf
+   */
+  @Override
+  protected void rebalanceAfterInsert(int depth, WAVLNode leaf) {
+    WAVLNode[] path = this.path;
+    WAVLNode child = leaf;
+
+    // Rebalance while the child has the same rank as its parent (a 0-child)
+    for (int i = depth - 1; i >= 0 && path[i].rank == child.rank; i--) {
+      WAVLNode parent = path[i];
+      boolean leftChild = parent.left == child;
+      WAVLNode sibling = leftChild ? parent.right : parent.left;
+      if (parent.rank - rank(sibling) == 1) {
+        parent.rank++;
+        child = parent;
+        continue;
+      }
+
+      // The sibling is a 2-child: the child was promoted before, so one of its children is a 1-child
+      WAVLNode inner = leftChild ? child.right : child.left;
+      WAVLNode subtree;
+      if (child.rank - rank(inner) == 2) {
+        subtree = leftChild ? rotateRight(parent) : rotateLeft(parent);
+        parent.rank--;
+      } else {
+        if (leftChild) {
+          parent.left = rotateLeft(child);
+          subtree = rotateRight(parent);
+        } else {
+          parent.right = rotateRight(child);
+          subtree = rotateLeft(parent);
+        }
+        inner.rank++;
+        child.rank--;
+        parent.rank--;
+      }
+      replaceChild(i, parent, subtree);
+      break;
+    }
+  }
+
+  /**
+   * Rebalances after a removal: a child whose rank is 3 below its parent's is repaired by demoting ancestors,
+   * which may propagate upwards, and finally by at most one single or double rotation.
+   *
+   * @param depth   the number of ancestors of the unlinked node on the path stack
+   * @param removed the unlinked node
+   * @param child   the child that took its place; may be null
+   */
+  @Override
+  protected void rebalanceAfterRemove(int depth, WAVLNode removed, WAVLNode child) {
+    WAVLNode[] path = this.path;
+    int i = depth - 1;
+    if (i >= 0 && path[i].left == null && path[i].right == null && path[i].rank == 1) {
+      // A leaf must have rank 0
+      path[i].rank = 0;
+      child = path[i--];
+    }
+
+    for (; i >= 0; i--) {
+      WAVLNode parent = path[i];
+      if (parent.rank - rank(child) < 3) {
+        break;
+      }
+
+      // A missing child is on the side that is null, the sibling of a 3-child always exists
+      boolean leftChild = parent.left == child;
+      WAVLNode sibling = leftChild ? parent.right : parent.left;
+      if (parent.rank - sibling.rank == 2) {
+        parent.rank--;
+        child = parent;
+        continue;
+      }
+      if (sibling.rank - rank(sibling.left) == 2 && sibling.rank - rank(sibling.right) == 2) {
+        parent.rank--;
+        sibling.rank--;
+        child = parent;
+        continue;
+      }
+
+      // The sibling is a 1-child with at least one 1-child
+      WAVLNode outer = leftChild ? sibling.right : sibling.left;
+      WAVLNode subtree;
+      if (sibling.rank - rank(outer) == 1) {
+        subtree = leftChild ? rotateLeft(parent) : rotateRight(parent);
+        sibling.rank++;
+        parent.rank--;
+        if (parent.left == null && parent.right == null) {
+          parent.rank--;
+        }
+      } else {
+        WAVLNode inner = leftChild ? sibling.left : sibling.right;
+        if (leftChild) {
+          parent.right = rotateRight(sibling);
+          subtree = rotateLeft(parent);
+        } else {
+          parent.left = rotateLeft(sibling);
+          subtree = rotateRight(parent);
+        }
+        inner.rank += 2;
+        sibling.rank--;
+        parent.rank -= 2;
+      }
+      replaceChild(i, parent, subtree);
+      break;
+    }
+  }
+
+  private static int rank(WAVLNode node) {
+    return node == null ? -1 : node.rank;
+  }
+}
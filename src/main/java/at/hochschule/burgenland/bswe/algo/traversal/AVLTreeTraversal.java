@@ -1,5 +1,6 @@
 package at.hochschule.burgenland.bswe.algo.traversal;
 
+import at.hochschule.burgenland.bswe.algo.display.ConsoleAVLTreeListener;
 import at.hochschule.burgenland.bswe.algo.display.TreePrinter;
 import at.hochschule.burgenland.bswe.algo.model.AVLTree;
 
@@ -14,6 +15,7 @@ public class AVLTreeTraversal {
    * Traverses an AVL tree constructed from the given array of integers in the specified order.
    * The input integers are inserted into the AVL tree, ensuring it remains balanced,
    * and then a traversal is performed to produce the result.
+   * Every insertion step is printed; see {@link #traverse(int[], String, boolean)} for a silent variant.
    *
    * @param numbers an array of integers to construct the AVL tree; cannot be null
    * @param order   the traversal order to use ("inorder", "preorder", "postorder"); cannot be null
@@ -22,6 +24,24 @@ public class AVLTreeTraversal {
    * @throws IllegalArgumentException if {@code order} is null
    */
   public static int[] traverse(int[] numbers, String order) {
+    return traverse(numbers, order, true);
+  }
+
+  /**
+   * Traverses an AVL tree constructed from the given array of integers in the specified order.
+   * If {@code showSteps} is true, the integers are inserted one by one and the tree is printed
+   * after every insertion. Otherwise, the tree is bulk-loaded via {@link AVLTree#bulkLoad(int[])}
+   * without printing anything, which avoids all rotations. A bulk-loaded tree is perfectly balanced,
+   * so its pre-, post- and level-order output may differ from the step-by-step construction.
+   *
+   * @param numbers   an array of integers to construct the AVL tree; cannot be null
+   * @param order     the traversal order to use ("inorder", "preorder", "postorder"); cannot be null
+   * @param showSteps whether every insertion step should be performed and printed
+   * @return an array of integers resulting from the traversal of the AVL tree
+   * @throws IllegalArgumentException if {@code numbers} is null
+   * @throws IllegalArgumentException if {@code order} is null
+   */
+  public static int[] traverse(int[] numbers, String order, boolean showSteps) {
     // Validate input
     if (numbers == null) {
       throw new IllegalArgumentException("Numbers array cannot be null");
@@ -30,8 +50,12 @@ public class AVLTreeTraversal {
       throw new IllegalArgumentException("Order cannot be null");
     }
 
-    // Create AVL tree and insert numbers
-    AVLTree tree = new AVLTree();
+    if (!showSteps) {
+      return TreeTraverser.traverse(AVLTree.bulkLoad(numbers).getRoot(), order);
+    }
+
+    // Create AVL tree that explains its rotations and insert numbers
+    AVLTree tree = new AVLTree(new ConsoleAVLTreeListener());
 
     System.out.println("=== AVL Tree Construction ===");
     for (int number : numbers) {
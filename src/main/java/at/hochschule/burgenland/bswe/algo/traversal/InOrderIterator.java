@@ -0,0 +1,72 @@
+package at.hochschule.burgenland.bswe.algo.traversal;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import at.hochschule.burgenland.bswe.algo.model.TreeNode;
+
+/**
+ * A lazy in-order iterator over the values of a binary search tree that lie within an inclusive range.
+ * Only the left spine of the next unvisited subtree is kept on an explicit stack, so the iterator needs
+ * {@code O(h)} memory. Subtrees that lie completely below the lower bound are skipped, and the iteration
+ * ends at the first value above the upper bound, so {@code O(h + k)} nodes are visited for {@code k} results.
+ * The tree must not be modified while it is being iterated.
+ */
+class InOrderIterator implements PrimitiveIterator.OfInt {
+  private final int high;
+  private TreeNode[] stack = new TreeNode[16];
+  private int top;
+
+  /**
+   * Creates an iterator over all values {@code v} of the tree with {@code low <= v <= high}.
+   *
+   * @param root the root of the tree to iterate; may be null
+   * @param low  the smallest value to return
+   * @param high the largest value to return
+   */
+  InOrderIterator(TreeNode root, int low, int high) {
+    this.high = high;
+    if (low <= high) {
+      pushLeftSpine(root, low);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return top > 0 && stack[top - 1].getValue() <= high;
+  }
+
+  @Override
+  public int nextInt() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    TreeNode node = stack[--top];
+    stack[top] = null;
+    pushLeftSpine(node.getRight(), Integer.MIN_VALUE);
+    return node.getValue();
+  }
+
+  /**
+   * Pushes the path to the smallest value {@code >= low} of a subtree, skipping nodes below {@code low}
+   * together with their left subtrees.
+   *
+   * @param node the root of the subtree; may be null
+   * @param low  the smallest value of interest
+   */
+  private void pushLeftSpine(TreeNode node, int low) {
+    while (node != null) {
+      if (node.getValue() < low) {
+        node = node.getRight();
+      } else {
+        if (top == stack.length) {
+          stack = Arrays.copyOf(stack, top * 2);
+        }
+        stack[top++] = node;
+        node = node.getLeft();
+      }
+    }
+  }
+}
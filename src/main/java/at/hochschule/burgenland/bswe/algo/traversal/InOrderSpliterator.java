@@ -0,0 +1,162 @@
+package at.hochschule.burgenland.bswe.algo.traversal;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+import at.hochschule.burgenland.bswe.algo.model.Node;
+
+/**
+ * A spliterator over the values of a binary search tree of {@link Node}s in ascending order, which can be split
+ * at subtree boundaries for parallel streams. It covers an optional single value (the head) followed by a whole
+ * subtree. Splitting hands the head and the left subtree of the subtree's root to the new spliterator and keeps
+ * the root's value as the new head, followed by its right subtree. Since the in-order sequence of a subtree is
+ * its left subtree, its root and its right subtree, the prefix and the rest stay in order, and every split moves
+ * one level down: a balanced tree of {@code n} nodes is split into halves of equal height.
+ *
+ * <p>Every {@link Node} stores the size of its subtree, so both this spliterator and every spliterator split off
+ * from it know their exact size, and it reports {@code SIZED} and {@code SUBSIZED}: {@code toArray()} and ordered
+ * parallel collection write straight into an array of the right size instead of buffering. The tree must be a
+ * binary search tree of distinct values whose subtree sizes are up to date, as maintained by {@link
+ * at.hochschule.burgenland.bswe.algo.model.AVLTree} and the other trees of {@code Node}s, and must not be modified
+ * while it is traversed.
+ */
+class InOrderSpliterator implements Spliterator.OfInt {
+  private static final int CHARACTERISTICS = ORDERED | SORTED | DISTINCT | NONNULL | SIZED | SUBSIZED;
+
+  private boolean hasHead;
+  private int head;
+  private Node root;
+
+  /**
+   * Iterates the remaining subtree once single values are consumed with {@link #tryAdvance(IntConsumer)};
+   * null before that.
+   */
+  private PrimitiveIterator.OfInt iterator;
+
+  /**
+   * The number of values the {@link #iterator} has not returned yet.
+   */
+  private int remaining;
+
+  /**
+   * Creates a spliterator over all values of a tree.
+   *
+   * @param root the root of the tree; may be null
+   */
+  InOrderSpliterator(Node root) {
+    this(false, 0, root);
+  }
+
+  private InOrderSpliterator(boolean hasHead, int head, Node root) {
+    this.hasHead = hasHead;
+    this.head = head;
+    this.root = root;
+  }
+
+  /**
+   * Splits off the head and the left subtree of the current root. Splitting is no longer possible
+   * once single values have been consumed or if the root has no left subtree.
+   *
+   * @return a spliterator over the values before the current root, or null if this spliterator cannot be split
+   */
+  @Override
+  public Spliterator.OfInt trySplit() {
+    if (iterator != null || root == null || root.left == null) {
+      return null;
+    }
+
+    InOrderSpliterator prefix = new InOrderSpliterator(hasHead, head, root.left);
+    hasHead = true;
+    head = root.value;
+    root = root.right;
+    return prefix;
+  }
+
+  @Override
+  public boolean tryAdvance(IntConsumer action) {
+    if (hasHead) {
+      hasHead = false;
+      action.accept(head);
+      return true;
+    }
+    if (iterator == null) {
+      iterator = new InOrderIterator(root, Integer.MIN_VALUE, Integer.MAX_VALUE);
+      remaining = size(root);
+      root = null;
+    }
+    if (!iterator.hasNext()) {
+      return false;
+    }
+    remaining--;
+    action.accept(iterator.nextInt());
+    return true;
+  }
+
+  /**
+   * Passes all remaining values to the action. Unless single values were consumed before, the subtree is walked
+   * in one loop with an explicit stack, like {@link TreeTraverser#traverse(at.hochschule.burgenland.bswe.algo.model.TreeNode, String)}.
+   *
+   * @param action the action to perform on every remaining value
+   */
+  @Override
+  public void forEachRemaining(IntConsumer action) {
+    if (hasHead) {
+      hasHead = false;
+      action.accept(head);
+    }
+    if (iterator != null) {
+      remaining = 0;
+      iterator.forEachRemaining(action);
+      return;
+    }
+
+    Node[] stack = new Node[Math.max(root == null ? 0 : root.height, 16)];
+    int top = 0;
+    Node node = root;
+    root = null;
+    while (node != null || top > 0) {
+      while (node != null) {
+        if (top == stack.length) {
+          stack = Arrays.copyOf(stack, top * 2);
+        }
+        stack[top++] = node;
+        node = node.left;
+      }
+      node = stack[--top];
+      action.accept(node.value);
+      node = node.right;
+    }
+  }
+
+  /**
+   * Returns the exact number of remaining values, read from the stored size of the remaining subtree.
+   *
+   * @return the number of remaining values
+   */
+  @Override
+  public long estimateSize() {
+    return (hasHead ? 1 : 0) + (iterator != null ? remaining : size(root));
+  }
+
+  @Override
+  public int characteristics() {
+    return CHARACTERISTICS;
+  }
+
+  /**
+   * Returns null, as the values are sorted in their natural order.
+   *
+   * @return null
+   */
+  @Override
+  public Comparator<? super Integer> getComparator() {
+    return null;
+  }
+
+  private static int size(Node node) {
+    return node == null ? 0 : node.size;
+  }
+}
@@ -0,0 +1,50 @@
+package at.hochschule.burgenland.bswe.algo.traversal;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Queue;
+
+import at.hochschule.burgenland.bswe.algo.model.TreeNode;
+
+/**
+ * A lazy level-order (breadth-first) iterator over the values of a binary tree. The queue holds the nodes
+ * that have been discovered but not returned yet, i.e. at most about two levels, so the iterator needs
+ * {@code O(w)} memory for a tree of width {@code w}.
+ * The tree must not be modified while it is being iterated.
+ */
+class LevelOrderIterator implements PrimitiveIterator.OfInt {
+  private final Queue<TreeNode> queue = new ArrayDeque<>();
+
+  /**
+   * Creates an iterator over all values of the tree.
+   *
+   * @param root the root of the tree to iterate; may be null
+   */
+  LevelOrderIterator(TreeNode root) {
+    if (root != null) {
+      queue.add(root);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    return !queue.isEmpty();
+  }
+
+  @Override
+  public int nextInt() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    TreeNode node = queue.poll();
+    if (node.getLeft() != null) {
+      queue.add(node.getLeft());
+    }
+    if (node.getRight() != null) {
+      queue.add(node.getRight());
+    }
+    return node.getValue();
+  }
+}
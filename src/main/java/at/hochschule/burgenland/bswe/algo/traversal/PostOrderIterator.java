@@ -0,0 +1,63 @@
+package at.hochschule.burgenland.bswe.algo.traversal;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import at.hochschule.burgenland.bswe.algo.model.TreeNode;
+
+/**
+ * A lazy post-order iterator over the values of a binary tree. Every node on the stack is marked once
+ * its children have been pushed above it; a marked node is returned when it reaches the top again,
+ * i.e. after both of its subtrees. Using a mark instead of comparing the node with the last returned child
+ * keeps the iterator correct for trees whose {@link TreeNode} views are created on demand.
+ * The stack holds at most two nodes per level, so the iterator needs {@code O(h)} memory.
+ * The tree must not be modified while it is being iterated.
+ */
+class PostOrderIterator implements PrimitiveIterator.OfInt {
+  private TreeNode[] stack = new TreeNode[16];
+  private boolean[] expanded = new boolean[16];
+  private int top;
+
+  /**
+   * Creates an iterator over all values of the tree.
+   *
+   * @param root the root of the tree to iterate; may be null
+   */
+  PostOrderIterator(TreeNode root) {
+    push(root);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return top > 0;
+  }
+
+  @Override
+  public int nextInt() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    while (!expanded[top - 1]) {
+      TreeNode node = stack[top - 1];
+      expanded[top - 1] = true;
+      push(node.getRight());
+      push(node.getLeft());
+    }
+    TreeNode node = stack[--top];
+    stack[top] = null;
+    return node.getValue();
+  }
+
+  private void push(TreeNode node) {
+    if (node != null) {
+      if (top == stack.length) {
+        stack = Arrays.copyOf(stack, top * 2);
+        expanded = Arrays.copyOf(expanded, top * 2);
+      }
+      stack[top] = node;
+      expanded[top++] = false;
+    }
+  }
+}
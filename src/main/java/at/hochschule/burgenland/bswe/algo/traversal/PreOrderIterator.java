@@ -0,0 +1,54 @@
+package at.hochschule.burgenland.bswe.algo.traversal;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import at.hochschule.burgenland.bswe.algo.model.TreeNode;
+
+/**
+ * A lazy pre-order iterator over the values of a binary tree. The stack holds the right children of the
+ * ancestors whose right subtree has not been started yet, so the iterator needs {@code O(h)} memory,
+ * and stopping early leaves the rest of the tree unvisited.
+ * The tree must not be modified while it is being iterated.
+ */
+class PreOrderIterator implements PrimitiveIterator.OfInt {
+  private TreeNode[] stack = new TreeNode[16];
+  private int top;
+
+  /**
+   * Creates an iterator over all values of the tree.
+   *
+   * @param root the root of the tree to iterate; may be null
+   */
+  PreOrderIterator(TreeNode root) {
+    push(root);
+  }
+
+  @Override
+  public boolean hasNext() {
+    return top > 0;
+  }
+
+  @Override
+  public int nextInt() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    TreeNode node = stack[--top];
+    stack[top] = null;
+    push(node.getRight());
+    push(node.getLeft());
+    return node.getValue();
+  }
+
+  private void push(TreeNode node) {
+    if (node != null) {
+      if (top == stack.length) {
+        stack = Arrays.copyOf(stack, top * 2);
+      }
+      stack[top++] = node;
+    }
+  }
+}
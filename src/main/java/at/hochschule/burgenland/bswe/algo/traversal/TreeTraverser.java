@@ -1,21 +1,166 @@
 package at.hochschule.burgenland.bswe.algo.traversal;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
 import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
+import at.hochschule.burgenland.bswe.algo.model.DoubleNode;
+import at.hochschule.burgenland.bswe.algo.model.LongNode;
 import at.hochschule.burgenland.bswe.algo.model.Node;
+import at.hochschule.burgenland.bswe.algo.model.TreeNode;
 
 /**
  * The TreeTraverser class provides utility methods to traverse a binary tree
  * in various orders, including pre-order, in-order, post-order, and level-order.
+ * It works on any {@link TreeNode}, so every {@link at.hochschule.burgenland.bswe.algo.model.IntTree}
+ * implementation can be traversed through its root.
  */
 public class TreeTraverser {
 
-  public static int[] traverse(Node root, String order) {
-    List<Integer> result = new ArrayList<>();
+  public static int[] traverse(TreeNode root, String order) {
+    return traverse(root, order, false);
+  }
+
+  /**
+   * Traverses a binary tree in the given order, optionally repeating every value as often as it occurs.
+   * Without expansion, every node contributes its value once, even in a multiset
+   * (see {@link at.hochschule.burgenland.bswe.algo.model.AVLTree#multiset()}).
+   * The traversal is iterative, so even a degenerate tree of any depth cannot overflow the call stack:
+   * the values are written straight into an array of the tree's size, using an explicit stack of nodes
+   * (a queue for level-order) instead of recursion and without boxing. The size is read from the subtree size of
+   * a {@link Node} root kept up to date by its AVL tree; only other trees and expanded counts need a first pass
+   * that counts the values.
+   *
+   * @param root         the root node of the tree; may be null
+   * @param order        the traversal order (preorder, inorder, postorder or levelorder, case-insensitive)
+   * @param expandCounts whether a value is emitted {@link TreeNode#getCount()} times instead of once
+   * @return the values in traversal order
+   * @throws IllegalArgumentException if {@code order} is not a valid traversal order
+   */
+  public static int[] traverse(TreeNode root, String order, boolean expandCounts) {
+    int[] result = new int[expandCounts ? count(root, true) : size(root)];
+
+    switch (order.toLowerCase()) {
+      case "preorder":
+        preOrder(root, result, expandCounts);
+        break;
+      case "inorder":
+        inOrder(root, result, expandCounts);
+        break;
+      case "postorder":
+        postOrder(root, result, expandCounts);
+        break;
+      case "levelorder":
+        levelOrder(root, result, expandCounts);
+        break;
+      default:
+        throw invalidOrder(order);
+    }
+
+    return result;
+  }
+
+  /**
+   * Traverses a binary tree in the given order and passes every value to a visitor until it returns false.
+   * Nothing is collected, and the nodes after the one that stopped the traversal are never visited, so a search
+   * like "first value matching X" ends as soon as it is found.
+   *
+   * @param root    the root node of the tree; may be null
+   * @param order   the traversal order (preorder, inorder, postorder or levelorder, case-insensitive)
+   * @param visitor receives the values in traversal order; returns false to stop the traversal
+   * @return true if every value was visited, false if the visitor stopped the traversal
+   * @throws IllegalArgumentException if {@code order} is not a valid traversal order or {@code visitor} is null
+   */
+  public static boolean traverse(TreeNode root, String order, IntPredicate visitor) {
+    if (visitor == null) {
+      throw new IllegalArgumentException("Visitor must not be null");
+    }
+    return visit(root, order, visitor::test);
+  }
+
+  /**
+   * Traverses a binary tree in the given order with a {@link TreeVisitor}, which can stop the traversal and skip
+   * subtrees. Before a subtree is entered, {@link TreeVisitor#shouldEnter(int, int)} receives the bounds of its
+   * values, derived from its ancestors; a skipped subtree is not touched at all. In a binary search tree, a visitor
+   * that only enters subtrees overlapping a range of {@code k} values visits {@code O(h + k)} nodes instead of
+   * {@code n}, see {@link TreeVisitor#range(int, int, IntPredicate)}. The traversal is iterative, with an explicit
+   * stack of nodes and their bounds (a queue for level-order).
+   *
+   * @param root    the root node of the tree; may be null
+   * @param order   the traversal order (preorder, inorder, postorder or levelorder, case-insensitive)
+   * @param visitor receives the values and decides which subtrees are entered
+   * @return true if every value of the entered subtrees was visited, false if the visitor stopped the traversal
+   * @throws IllegalArgumentException if {@code order} is not a valid traversal order or {@code visitor} is null
+   */
+  public static boolean visit(TreeNode root, String order, TreeVisitor visitor) {
+    if (visitor == null) {
+      throw new IllegalArgumentException("Visitor must not be null");
+    }
+
+    switch (order.toLowerCase()) {
+      case "preorder":
+        return preOrder(root, visitor);
+      case "inorder":
+        return inOrder(root, visitor);
+      case "postorder":
+        return postOrder(root, visitor);
+      case "levelorder":
+        return levelOrder(root, visitor);
+      default:
+        throw invalidOrder(order);
+    }
+  }
+
+  /**
+   * Traverses a {@link at.hochschule.burgenland.bswe.algo.model.LongAVLTree} in the given order without boxing:
+   * the result array is sized from the root's subtree size and filled directly, iteratively with the same
+   * explicit stack as {@link #traverse(TreeNode, String, boolean)}, so no depth can overflow the call stack.
+   *
+   * @param root  the root node of the tree; may be null
+   * @param order the traversal order (preorder, inorder, postorder or levelorder, case-insensitive)
+   * @return the keys in traversal order
+   * @throws IllegalArgumentException if {@code order} is not a valid traversal order
+   */
+  public static long[] traverse(LongNode root, String order) {
+    long[] result = new long[root == null ? 0 : root.size];
+    switch (order.toLowerCase()) {
+      case "preorder":
+        preOrder(root, result);
+        break;
+      case "inorder":
+        inOrder(root, result);
+        break;
+      case "postorder":
+        postOrder(root, result);
+        break;
+      case "levelorder":
+        levelOrder(root, result);
+        break;
+      default:
+        throw invalidOrder(order);
+    }
+    return result;
+  }
 
+  /**
+   * Traverses a {@link at.hochschule.burgenland.bswe.algo.model.DoubleAVLTree} in the given order without boxing:
+   * the result array is sized from the root's subtree size and filled directly, iteratively with the same
+   * explicit stack as {@link #traverse(TreeNode, String, boolean)}, so no depth can overflow the call stack.
+   *
+   * @param root  the root node of the tree; may be null
+   * @param order the traversal order (preorder, inorder, postorder or levelorder, case-insensitive)
+   * @return the keys in traversal order
+   * @throws IllegalArgumentException if {@code order} is not a valid traversal order
+   */
+  public static double[] traverse(DoubleNode root, String order) {
+    double[] result = new double[root == null ? 0 : root.size];
     switch (order.toLowerCase()) {
       case "preorder":
         preOrder(root, result);
@@ -30,11 +175,124 @@ public class TreeTraverser {
         levelOrder(root, result);
         break;
       default:
-        throw new IllegalArgumentException("Invalid traversal type: " + order +
-            ". Valid options: preorder, inorder, postorder, levelorder");
+        throw invalidOrder(order);
     }
+    return result;
+  }
 
-    return result.stream().mapToInt(i -> i).toArray();
+  /**
+   * Returns a lazy in-order iterator over the values {@code v} of a binary search tree with
+   * {@code low <= v <= high}. Nothing is materialised: the iterator keeps at most one root-to-leaf path
+   * on its stack and visits only the {@code O(h + k)} nodes needed to produce the {@code k} matching values.
+   * If {@code low > high}, the iterator is empty.
+   *
+   * @param root the root node of the binary search tree; may be null
+   * @param low  the smallest value to return (inclusive)
+   * @param high the largest value to return (inclusive)
+   * @return an iterator over the matching values in ascending order
+   */
+  public static PrimitiveIterator.OfInt range(TreeNode root, int low, int high) {
+    return new InOrderIterator(root, low, high);
+  }
+
+  /**
+   * Traverses a tree of {@link Node}s in pre-order or in-order with only {@code O(1)} auxiliary space
+   * (Morris traversal): instead of a stack, the rightmost node of every left subtree temporarily gets a
+   * right pointer back to the subtree's parent (a thread), which leads the walk back up once the left
+   * subtree is done and is removed again on that second visit. Every edge is walked at most three times,
+   * so the traversal still takes {@code O(n)} time. Apart from the result, nothing is allocated: one Morris
+   * pass counts the values and a second one writes them.
+   *
+   * <p>When the method returns, every pointer has been restored, but while it runs, the tree is temporarily
+   * modified: it must not be read or modified by other threads at the same time. In particular, the root must
+   * not come from a tree that promises lock-free readers: the roots of a {@link at.hochschule.burgenland.bswe.algo.
+   * model.PersistentAVLTree} are shared by concurrent readers, whose threads would corrupt each other. Use
+   * {@link #traverse(TreeNode, String)} for that tree.
+   *
+   * @param root  the root node of the tree; may be null
+   * @param order the traversal order (preorder or inorder, case-insensitive)
+   * @return the values in traversal order
+   * @throws IllegalArgumentException if {@code order} is neither preorder nor inorder
+   */
+  public static int[] traverseMorris(Node root, String order) {
+    boolean preOrder;
+    switch (order.toLowerCase()) {
+      case "preorder":
+        preOrder = true;
+        break;
+      case "inorder":
+        preOrder = false;
+        break;
+      default:
+        throw new IllegalArgumentException("Invalid Morris traversal type: " + order +
+            ". Valid options: preorder, inorder");
+    }
+
+    int[] count = new int[1];
+    morris(root, preOrder, value -> count[0]++);
+    int[] result = new int[count[0]];
+    int[] index = new int[1];
+    morris(root, preOrder, value -> result[index[0]++] = value);
+    return result;
+  }
+
+  /**
+   * Returns a lazy iterator over the values of a binary tree in the given order. Nothing is materialised:
+   * the depth-first orders keep {@code O(h)} nodes on a stack, level-order keeps {@code O(w)} nodes in a queue,
+   * and a node is only visited when the value before it has been consumed, so stopping early leaves
+   * the rest of the tree untouched. The tree must not be modified while it is being iterated.
+   *
+   * @param root  the root node of the tree; may be null
+   * @param order the traversal order (preorder, inorder, postorder or levelorder, case-insensitive)
+   * @return an iterator over the values in traversal order
+   * @throws IllegalArgumentException if {@code order} is not a valid traversal order
+   */
+  public static PrimitiveIterator.OfInt iterator(TreeNode root, String order) {
+    switch (order.toLowerCase()) {
+      case "preorder":
+        return new PreOrderIterator(root);
+      case "inorder":
+        return new InOrderIterator(root, Integer.MIN_VALUE, Integer.MAX_VALUE);
+      case "postorder":
+        return new PostOrderIterator(root);
+      case "levelorder":
+        return new LevelOrderIterator(root);
+      default:
+        throw invalidOrder(order);
+    }
+  }
+
+  /**
+   * Returns a lazy, sequential stream of the values of a binary tree in the given order, backed by
+   * {@link #iterator(TreeNode, String)}. Aggregations like {@code min}, {@code max} or {@code count} run
+   * in a single pass without copying the values, and short-circuiting operations like {@code findFirst}
+   * or {@code limit} stop the walk early.
+   *
+   * @param root  the root node of the tree; may be null
+   * @param order the traversal order (preorder, inorder, postorder or levelorder, case-insensitive)
+   * @return a stream of the values in traversal order
+   * @throws IllegalArgumentException if {@code order} is not a valid traversal order
+   */
+  public static IntStream stream(TreeNode root, String order) {
+    Spliterator.OfInt spliterator = Spliterators.spliteratorUnknownSize(iterator(root, order),
+        Spliterator.ORDERED | Spliterator.NONNULL);
+    return StreamSupport.intStream(spliterator, false);
+  }
+
+  /**
+   * Returns a parallel stream of the values of a binary search tree in ascending order. The stream is backed by
+   * an {@link InOrderSpliterator}, which splits at subtree boundaries, so every worker of the common fork-join pool
+   * walks whole subtrees without coordination. The stream is {@code SORTED} and {@code DISTINCT}, so operations
+   * like {@code sorted()} or {@code distinct()} cost nothing, and the order is kept by ordered operations like
+   * {@code toArray()} or {@code forEachOrdered}. It is also {@code SIZED}, using the subtree sizes stored in the
+   * nodes, so {@code toArray()} fills a presized array. The tree must not be modified while the stream is consumed.
+   *
+   * @param root the root node of a binary search tree with distinct values and up-to-date subtree sizes,
+   *             e.g. of an AVL tree; may be null
+   * @return a parallel stream of the values in ascending order
+   */
+  public static IntStream parallelStream(Node root) {
+    return StreamSupport.intStream(new InOrderSpliterator(root), true);
   }
 
   /**
@@ -55,68 +313,443 @@ public class TreeTraverser {
   }
 
   /**
-   * Performs a pre-order traversal of a binary tree and stores the values of the visited nodes
-   * in the provided list.
+   * Prints the values of a lazy traversal (see {@link #iterator(TreeNode, String)}) as they are produced,
+   * in the same format as {@link #printTraversal(int[], String)} but without collecting them into an array first.
    *
-   * @param node   the current node being visited during the traversal, starting with the root of the tree
-   * @param result the list where the values of the visited nodes are stored in traversal order
+   * @param traversal an iterator over the values in traversal order
+   * @param order     a string specifying the traversal order (e.g., "preorder", "inorder", "postorder", "levelorder")
    */
-  private static void preOrder(Node node, List<Integer> result) {
-    if (node != null) {
-      result.add(node.value);
-      preOrder(node.left, result);
-      preOrder(node.right, result);
+  public static void printTraversal(PrimitiveIterator.OfInt traversal, String order) {
+    System.out.print(order + " Traversal: ");
+    while (traversal.hasNext()) {
+      System.out.print(traversal.nextInt());
+      if (traversal.hasNext()) {
+        System.out.print(", ");
+      }
     }
+    System.out.println();
   }
 
   /**
-   * Performs an in-order traversal of a binary tree and stores the values of the visited nodes
-   * in the provided list.
+   * Walks a tree in pre-order or in-order by threading the rightmost node of every left subtree
+   * to its in-order successor, see {@link #traverseMorris(Node, String)}.
    *
-   * @param node   the current node being visited during the traversal, starting with the root of the tree
-   * @param result the list where the values of the visited nodes are stored in traversal order
+   * @param root     the root node of the tree; may be null
+   * @param preOrder whether a node is visited before ({@code true}) or after its left subtree
+   * @param visitor  receives the values in traversal order
    */
-  private static void inOrder(Node node, List<Integer> result) {
-    if (node != null) {
-      inOrder(node.left, result);
-      result.add(node.value);
-      inOrder(node.right, result);
+  private static void morris(Node root, boolean preOrder, IntConsumer visitor) {
+    Node current = root;
+    while (current != null) {
+      if (current.left == null) {
+        visitor.accept(current.value);
+        current = current.right;
+        continue;
+      }
+
+      Node predecessor = current.left;
+      while (predecessor.right != null && predecessor.right != current) {
+        predecessor = predecessor.right;
+      }
+      if (predecessor.right == null) {
+        // First visit: thread the predecessor back to the current node and descend into the left subtree
+        if (preOrder) {
+          visitor.accept(current.value);
+        }
+        predecessor.right = current;
+        current = current.left;
+      } else {
+        // Second visit via the thread: the left subtree is done, so remove the thread
+        predecessor.right = null;
+        if (!preOrder) {
+          visitor.accept(current.value);
+        }
+        current = current.right;
+      }
     }
   }
 
   /**
-   * Performs a post-order traversal of a binary tree and stores the values of the visited nodes
-   * in the provided list.
+   * Returns the number of nodes of a binary tree in {@code O(1)} if its root is a {@link Node} whose subtree size
+   * agrees with the sizes of its children. Hand-built trees keep the size 1 of every new {@link Node} and fail that
+   * check, so they are counted by {@link #count} like trees of other node types.
    *
-   * @param node   the current node being visited during the traversal, starting with the root of the tree
-   * @param result the list where the values of the visited nodes are stored in traversal order
+   * @param root the root node of the tree; may be null
+   * @return the number of nodes of the tree
    */
-  private static void postOrder(Node node, List<Integer> result) {
-    if (node != null) {
-      postOrder(node.left, result);
-      postOrder(node.right, result);
-      result.add(node.value);
+  private static int size(TreeNode root) {
+    if (root instanceof Node) {
+      Node node = (Node) root;
+      int left = node.left == null ? 0 : node.left.size;
+      int right = node.right == null ? 0 : node.right.size;
+      if (node.size == left + right + 1) {
+        return node.size;
+      }
+    }
+    return count(root, false);
+  }
+
+  /**
+   * Counts the values of a binary tree iteratively.
+   *
+   * @param root         the root node of the tree; may be null
+   * @param expandCounts whether a value is counted as often as it occurs
+   * @return the number of values the traversal will produce
+   * @throws ArithmeticException if the expanded number of values exceeds {@link Integer#MAX_VALUE}
+   */
+  private static int count(TreeNode root, boolean expandCounts) {
+    int count = 0;
+    NodeStack<TreeNode> stack = new NodeStack<>(root);
+    while (!stack.isEmpty()) {
+      TreeNode node = stack.pop();
+      count = Math.addExact(count, expandCounts ? node.getCount() : 1);
+      stack.push(node.getRight());
+      stack.push(node.getLeft());
+    }
+    return count;
+  }
+
+  /**
+   * Performs a pre-order traversal of a binary tree: a node is popped from the stack and visited,
+   * then its right and left children are pushed, so the left subtree is completed first.
+   *
+   * @param root         the root node of the tree; may be null
+   * @param result       the array the values are written to in traversal order, sized to the number of values
+   * @param expandCounts whether a value is stored as often as it occurs
+   */
+  private static void preOrder(TreeNode root, int[] result, boolean expandCounts) {
+    int index = 0;
+    NodeStack<TreeNode> stack = new NodeStack<>(root);
+    while (!stack.isEmpty()) {
+      TreeNode node = stack.pop();
+      index = visit(node, result, index, expandCounts);
+      stack.push(node.getRight());
+      stack.push(node.getLeft());
+    }
+  }
+
+  /**
+   * Performs an in-order traversal of a binary tree: the stack holds the ancestors whose left subtree
+   * is being traversed, so a node is visited when it is popped and the walk continues in its right subtree.
+   *
+   * @param root         the root node of the tree; may be null
+   * @param result       the array the values are written to in traversal order, sized to the number of values
+   * @param expandCounts whether a value is stored as often as it occurs
+   */
+  private static void inOrder(TreeNode root, int[] result, boolean expandCounts) {
+    int index = 0;
+    NodeStack<TreeNode> stack = new NodeStack<>(null);
+    TreeNode node = root;
+    while (node != null || !stack.isEmpty()) {
+      while (node != null) {
+        stack.push(node);
+        node = node.getLeft();
+      }
+      node = stack.pop();
+      index = visit(node, result, index, expandCounts);
+      node = node.getRight();
+    }
+  }
+
+  /**
+   * Performs a post-order traversal of a binary tree. Post-order is the reverse of a pre-order traversal
+   * that visits the right subtree before the left one, so that traversal is run and the result is filled
+   * from the back. This needs no comparison of node identities, which matters for trees whose
+   * {@link TreeNode} views are created on demand.
+   *
+   * @param root         the root node of the tree; may be null
+   * @param result       the array the values are written to in traversal order, sized to the number of values
+   * @param expandCounts whether a value is stored as often as it occurs
+   */
+  private static void postOrder(TreeNode root, int[] result, boolean expandCounts) {
+    int end = result.length;
+    NodeStack<TreeNode> stack = new NodeStack<>(root);
+    while (!stack.isEmpty()) {
+      TreeNode node = stack.pop();
+      int repetitions = expandCounts ? node.getCount() : 1;
+      end -= repetitions;
+      visit(node, result, end, expandCounts);
+      stack.push(node.getLeft());
+      stack.push(node.getRight());
     }
   }
 
   /**
    * Performs a level-order traversal (breadth-first search) of a binary tree
-   * and stores the values of the visited nodes in the provided list.
+   * and writes the values of the visited nodes into the result array.
+   *
+   * @param root         the root node of the binary tree to be traversed; may be null
+   * @param result       the array the values are written to in traversal order, sized to the number of values
+   * @param expandCounts whether a value is stored as often as it occurs
+   */
+  private static void levelOrder(TreeNode root, int[] result, boolean expandCounts) {
+    if (root == null) {
+      return;
+    }
+
+    Queue<TreeNode> queue = new ArrayDeque<>();
+    queue.add(root);
+    int index = 0;
+    while (!queue.isEmpty()) {
+      TreeNode node = queue.poll();
+      index = visit(node, result, index, expandCounts);
+
+      if (node.getLeft() != null) {
+        queue.add(node.getLeft());
+      }
+      if (node.getRight() != null) {
+        queue.add(node.getRight());
+      }
+    }
+  }
+
+  /**
+   * Writes the value of a visited node once, or as often as it occurs if counts are expanded.
    *
-   * @param root   the root node of the binary tree to be traversed
-   * @param result the list where the values of the visited nodes are stored
+   * @return the position after the written values
    */
-  private static void levelOrder(Node root, List<Integer> result) {
+  private static int visit(TreeNode node, int[] result, int index, boolean expandCounts) {
+    int repetitions = expandCounts ? node.getCount() : 1;
+    int value = node.getValue();
+    for (int i = 0; i < repetitions; i++) {
+      result[index++] = value;
+    }
+    return index;
+  }
+
+  /**
+   * Visits a binary tree in pre-order: a popped subtree is checked with {@link TreeVisitor#shouldEnter}, its root
+   * is visited, and its right and left subtrees are pushed with the root's value as their upper and lower bound.
+   *
+   * @return true if every value of the entered subtrees was visited, false if the visitor stopped the traversal
+   */
+  private static boolean preOrder(TreeNode root, TreeVisitor visitor) {
+    BoundedStack stack = new BoundedStack(root);
+    while (!stack.isEmpty()) {
+      stack.pop();
+      TreeNode node = stack.node;
+      int min = stack.min;
+      int max = stack.max;
+      if (!visitor.shouldEnter(min, max)) {
+        continue;
+      }
+      int value = node.getValue();
+      if (!visitor.visit(value)) {
+        return false;
+      }
+      stack.push(node.getRight(), value, max, false);
+      stack.push(node.getLeft(), min, value, false);
+    }
+    return true;
+  }
+
+  /**
+   * Visits a binary tree in in-order. An entered subtree is replaced on the stack by its right subtree, its root
+   * marked as expanded and its left subtree; a marked root is visited when it reaches the top again.
+   *
+   * @return true if every value of the entered subtrees was visited, false if the visitor stopped the traversal
+   */
+  private static boolean inOrder(TreeNode root, TreeVisitor visitor) {
+    BoundedStack stack = new BoundedStack(root);
+    while (!stack.isEmpty()) {
+      stack.pop();
+      TreeNode node = stack.node;
+      int min = stack.min;
+      int max = stack.max;
+      if (stack.expanded) {
+        if (!visitor.visit(node.getValue())) {
+          return false;
+        }
+        continue;
+      }
+      if (visitor.shouldEnter(min, max)) {
+        int value = node.getValue();
+        stack.push(node.getRight(), value, max, false);
+        stack.push(node, min, max, true);
+        stack.push(node.getLeft(), min, value, false);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Visits a binary tree in post-order. An entered subtree is replaced on the stack by its root marked as
+   * expanded, its right subtree and its left subtree; a marked root is visited after both of its subtrees.
+   * Like {@link PostOrderIterator}, this uses marks instead of comparing node identities.
+   *
+   * @return true if every value of the entered subtrees was visited, false if the visitor stopped the traversal
+   */
+  private static boolean postOrder(TreeNode root, TreeVisitor visitor) {
+    BoundedStack stack = new BoundedStack(root);
+    while (!stack.isEmpty()) {
+      stack.pop();
+      TreeNode node = stack.node;
+      int min = stack.min;
+      int max = stack.max;
+      if (stack.expanded) {
+        if (!visitor.visit(node.getValue())) {
+          return false;
+        }
+        continue;
+      }
+      if (visitor.shouldEnter(min, max)) {
+        int value = node.getValue();
+        stack.push(node, min, max, true);
+        stack.push(node.getRight(), value, max, false);
+        stack.push(node.getLeft(), min, value, false);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Visits a binary tree in level-order, keeping every queued subtree together with the bounds of its values.
+   *
+   * @return true if every value of the entered subtrees was visited, false if the visitor stopped the traversal
+   */
+  private static boolean levelOrder(TreeNode root, TreeVisitor visitor) {
+    Queue<BoundedNode> queue = new ArrayDeque<>();
+    if (root != null) {
+      queue.add(new BoundedNode(root, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+    while (!queue.isEmpty()) {
+      BoundedNode entry = queue.poll();
+      if (!visitor.shouldEnter(entry.min, entry.max)) {
+        continue;
+      }
+      int value = entry.node.getValue();
+      if (!visitor.visit(value)) {
+        return false;
+      }
+
+      if (entry.node.getLeft() != null) {
+        queue.add(new BoundedNode(entry.node.getLeft(), entry.min, value));
+      }
+      if (entry.node.getRight() != null) {
+        queue.add(new BoundedNode(entry.node.getRight(), value, entry.max));
+      }
+    }
+    return true;
+  }
+
+  private static IllegalArgumentException invalidOrder(String order) {
+    return new IllegalArgumentException("Invalid traversal type: " + order +
+        ". Valid options: preorder, inorder, postorder, levelorder");
+  }
+
+  /**
+   * Writes the keys of a tree in pre-order into an array, iteratively like
+   * {@link #preOrder(TreeNode, int[], boolean)}.
+   *
+   * @param root   the root of the tree; may be null
+   * @param result the array to fill, sized to the number of keys
+   */
+  private static void preOrder(LongNode root, long[] result) {
+    int index = 0;
+    NodeStack<LongNode> stack = new NodeStack<>(root);
+    while (!stack.isEmpty()) {
+      LongNode node = stack.pop();
+      result[index++] = node.value;
+      stack.push(node.right);
+      stack.push(node.left);
+    }
+  }
+
+  private static void inOrder(LongNode root, long[] result) {
+    int index = 0;
+    NodeStack<LongNode> stack = new NodeStack<>(null);
+    LongNode node = root;
+    while (node != null || !stack.isEmpty()) {
+      while (node != null) {
+        stack.push(node);
+        node = node.left;
+      }
+      node = stack.pop();
+      result[index++] = node.value;
+      node = node.right;
+    }
+  }
+
+  private static void postOrder(LongNode root, long[] result) {
+    int end = result.length;
+    NodeStack<LongNode> stack = new NodeStack<>(root);
+    while (!stack.isEmpty()) {
+      LongNode node = stack.pop();
+      result[--end] = node.value;
+      stack.push(node.left);
+      stack.push(node.right);
+    }
+  }
+
+  private static void levelOrder(LongNode root, long[] result) {
     if (root == null) {
       return;
     }
 
-    Queue<Node> queue = new LinkedList<>();
+    Queue<LongNode> queue = new ArrayDeque<>();
     queue.add(root);
+    int index = 0;
+    while (!queue.isEmpty()) {
+      LongNode node = queue.poll();
+      result[index++] = node.value;
+
+      if (node.left != null) {
+        queue.add(node.left);
+      }
+      if (node.right != null) {
+        queue.add(node.right);
+      }
+    }
+  }
+
+  private static void preOrder(DoubleNode root, double[] result) {
+    int index = 0;
+    NodeStack<DoubleNode> stack = new NodeStack<>(root);
+    while (!stack.isEmpty()) {
+      DoubleNode node = stack.pop();
+      result[index++] = node.value;
+      stack.push(node.right);
+      stack.push(node.left);
+    }
+  }
+
+  private static void inOrder(DoubleNode root, double[] result) {
+    int index = 0;
+    NodeStack<DoubleNode> stack = new NodeStack<>(null);
+    DoubleNode node = root;
+    while (node != null || !stack.isEmpty()) {
+      while (node != null) {
+        stack.push(node);
+        node = node.left;
+      }
+      node = stack.pop();
+      result[index++] = node.value;
+      node = node.right;
+    }
+  }
 
+  private static void postOrder(DoubleNode root, double[] result) {
+    int end = result.length;
+    NodeStack<DoubleNode> stack = new NodeStack<>(root);
+    while (!stack.isEmpty()) {
+      DoubleNode node = stack.pop();
+      result[--end] = node.value;
+      stack.push(node.left);
+      stack.push(node.right);
+    }
+  }
+
+  private static void levelOrder(DoubleNode root, double[] result) {
+    if (root == null) {
+      return;
+    }
+
+    Queue<DoubleNode> queue = new ArrayDeque<>();
+    queue.add(root);
+    int index = 0;
     while (!queue.isEmpty()) {
-      Node node = queue.poll();
-      result.add(node.value);
+      DoubleNode node = queue.poll();
+      result[index++] = node.value;
 
       if (node.left != null) {
         queue.add(node.left);
@@ -126,4 +759,111 @@ public class TreeTraverser {
       }
     }
   }
+
+  /**
+   * A growable array-based stack of nodes for the iterative traversals. Pushing null is ignored,
+   * so missing children need no check at the call site.
+   *
+   * @param <N> the node type
+   */
+  private static final class NodeStack<N> {
+    /**
+     * Enough for every balanced tree in this project; deeper trees grow the stack.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Object[] nodes = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    private NodeStack(N root) {
+      push(root);
+    }
+
+    private void push(N node) {
+      if (node == null) {
+        return;
+      }
+      if (size == nodes.length) {
+        nodes = Arrays.copyOf(nodes, size * 2);
+      }
+      nodes[size++] = node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private N pop() {
+      N node = (N) nodes[--size];
+      nodes[size] = null;
+      return node;
+    }
+
+    private boolean isEmpty() {
+      return size == 0;
+    }
+  }
+
+  /**
+   * A growable array-based stack of subtrees for the visitor traversals, keeping the bounds of each subtree's values
+   * and whether its root has already been expanded. Pushing null is ignored. {@link #pop()} loads the removed entry
+   * into {@link #node}, {@link #min}, {@link #max} and {@link #expanded}, so no entry objects are allocated.
+   */
+  private static final class BoundedStack {
+    private TreeNode[] nodes = new TreeNode[NodeStack.INITIAL_CAPACITY];
+    private int[] mins = new int[NodeStack.INITIAL_CAPACITY];
+    private int[] maxs = new int[NodeStack.INITIAL_CAPACITY];
+    private boolean[] marks = new boolean[NodeStack.INITIAL_CAPACITY];
+    private int size;
+
+    private TreeNode node;
+    private int min;
+    private int max;
+    private boolean expanded;
+
+    private BoundedStack(TreeNode root) {
+      push(root, Integer.MIN_VALUE, Integer.MAX_VALUE, false);
+    }
+
+    private void push(TreeNode node, int min, int max, boolean expanded) {
+      if (node == null) {
+        return;
+      }
+      if (size == nodes.length) {
+        nodes = Arrays.copyOf(nodes, size * 2);
+        mins = Arrays.copyOf(mins, size * 2);
+        maxs = Arrays.copyOf(maxs, size * 2);
+        marks = Arrays.copyOf(marks, size * 2);
+      }
+      nodes[size] = node;
+      mins[size] = min;
+      maxs[size] = max;
+      marks[size++] = expanded;
+    }
+
+    private void pop() {
+      size--;
+      node = nodes[size];
+      min = mins[size];
+      max = maxs[size];
+      expanded = marks[size];
+      nodes[size] = null;
+    }
+
+    private boolean isEmpty() {
+      return size == 0;
+    }
+  }
+
+  /**
+   * A subtree queued by the level-order visitor traversal, together with the bounds of its values.
+   */
+  private static final class BoundedNode {
+    private final TreeNode node;
+    private final int min;
+    private final int max;
+
+    private BoundedNode(TreeNode node, int min, int max) {
+      this.node = node;
+      this.min = min;
+      this.max = max;
+    }
+  }
 }
@@ -0,0 +1,68 @@
+package at.hochschule.burgenland.bswe.algo.traversal;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Receives the values of a traversal by {@link TreeTraverser#visit(at.hochschule.burgenland.bswe.algo.model.TreeNode,
+ * String, TreeVisitor)} and decides whether it goes on. Besides stopping the whole traversal, a visitor can skip
+ * subtrees: before a subtree is entered, {@link #shouldEnter(int, int)} receives the bounds its values must lie
+ * within according to the binary search tree ordering of its ancestors, and a subtree that is not entered is never
+ * touched.
+ */
+@FunctionalInterface
+public interface TreeVisitor {
+
+  /**
+   * Visits the value of a node.
+   *
+   * @param value the value of the visited node
+   * @return true to continue the traversal, false to stop it
+   */
+  boolean visit(int value);
+
+  /**
+   * Decides whether a subtree is traversed. The bounds are taken from the values of its ancestors: every value
+   * {@code v} of the subtree satisfies {@code min <= v <= max}, provided the tree is a binary search tree.
+   * By default, every subtree is entered.
+   *
+   * @param min the lower bound of the values in the subtree ({@link Integer#MIN_VALUE} if unbounded)
+   * @param max the upper bound of the values in the subtree ({@link Integer#MAX_VALUE} if unbounded)
+   * @return true to traverse the subtree, false to skip it with all of its nodes
+   */
+  default boolean shouldEnter(int min, int max) {
+    return true;
+  }
+
+  /**
+   * Creates a visitor that passes only the values {@code v} with {@code low <= v <= high} to an action and skips
+   * every subtree that cannot contain such a value. In-order, this visits {@code O(h + k)} nodes for {@code k}
+   * values within the range.
+   *
+   * @param low    the smallest value to pass on
+   * @param high   the largest value to pass on
+   * @param action receives the values within the range; returns false to stop the traversal
+   * @return a visitor restricted to the range
+   * @throws IllegalArgumentException if {@code low > high} or {@code action} is null
+   */
+  static TreeVisitor range(int low, int high, IntPredicate action) {
+    if (low > high) {
+      throw new IllegalArgumentException("Invalid range: low (" + low + ") must not be greater than high ("
+          + high + ")");
+    }
+    if (action == null) {
+      throw new IllegalArgumentException("Action must not be null");
+    }
+
+    return new TreeVisitor() {
+      @Override
+      public boolean visit(int value) {
+        return value < low || value > high || action.test(value);
+      }
+
+      @Override
+      public boolean shouldEnter(int min, int max) {
+        return max >= low && min <= high;
+      }
+    };
+  }
+}